@@ -89,7 +89,7 @@ public class SurveySubmitAnswerSimulation extends BaseSimulation {
                         .post("/surveys/submit")
                         .headers(Map.of("Content-Type", "application/json"))
                         .body(RawFileBody("data/submit_request.json")).asJson()
-                        .check(status().is(200))
+                        .check(status().in(200, 202))
                 );
         String testType = System.getProperty("type");
         setupSimulation(testType);
@@ -0,0 +1,37 @@
+package com.thesurvey.api.cache;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Small bounded pool for background cache refreshes, warm-ups and prefetches, which are skipped when
+ * it is busy. It is not an {@link java.util.concurrent.Executor} bean on purpose, as one would make
+ * Spring Boot back off from creating its {@code applicationTaskExecutor}.
+ */
+@Component
+public class CacheRefreshExecutor {
+
+    private static final int THREADS = 2;
+
+    private static final int QUEUE_CAPACITY = 100;
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(THREADS, THREADS, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(QUEUE_CAPACITY), new CustomizableThreadFactory("cache-refresh-"));
+
+    /**
+     * @throws java.util.concurrent.RejectedExecutionException if the pool is busy
+     */
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,34 @@
+package com.thesurvey.api.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * The status and body of the first response to a request with an {@code Idempotency-Key}, replayed to
+ * retries of that request, along with the hash of the request it answered.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class IdempotentResponse implements Serializable {
+
+    /**
+     * SHA-256 of the method and body of the request, which a retry must match to get the response.
+     */
+    private String requestHash;
+
+    private int status;
+
+    private String contentType;
+
+    private byte[] body;
+
+    public IdempotentResponse(String requestHash, int status, String contentType, byte[] body) {
+        this.requestHash = requestHash;
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+    }
+}
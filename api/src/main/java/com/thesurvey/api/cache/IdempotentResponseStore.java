@@ -0,0 +1,50 @@
+package com.thesurvey.api.cache;
+
+import lombok.Getter;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the responses to requests with an {@code Idempotency-Key} in Redis for {@code ttl}, keyed by
+ * user, path and idempotency key, with a lock per key that concurrent duplicates wait on.
+ */
+@Component
+public class IdempotentResponseStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+
+    private final RedissonClient redissonClient;
+
+    private final Duration ttl;
+
+    /**
+     * How long a duplicate waits for the request holding its key before giving up.
+     */
+    @Getter
+    private final Duration waitTimeout;
+
+    public IdempotentResponseStore(RedissonClient redissonClient,
+        @Value("${survey.idempotency.ttl:PT24H}") Duration ttl,
+        @Value("${survey.idempotency.wait-timeout:PT10S}") Duration waitTimeout) {
+        this.redissonClient = redissonClient;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+    }
+
+    public IdempotentResponse get(String key) {
+        return redissonClient.<IdempotentResponse>getBucket(KEY_PREFIX + key).get();
+    }
+
+    public void put(String key, IdempotentResponse response) {
+        redissonClient.<IdempotentResponse>getBucket(KEY_PREFIX + key).set(response, ttl.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public RLock getLock(String key) {
+        return redissonClient.getLock(KEY_PREFIX + "lock:" + key);
+    }
+}
@@ -0,0 +1,242 @@
+package com.thesurvey.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Two-tier cache with an in-process L1 in front of the shared Redis L2.
+ * Reads are served from heap when possible. Evictions are applied to both tiers and published
+ * through Redis pub/sub so the L1 of every other API node drops the same entries.
+ * <p>
+ * Misses through {@link #get(Object, Callable)} are coalesced: concurrent callers on this node
+ * share one load, and the Redis cache locks the key so only one node runs the loader.
+ * An entry evicted or expired within the stale grace period keeps being served while a single
+ * background load rebuilds it: every value put into L1 is also kept in a stale copy that outlives its
+ * L1 expiry by the grace period.
+ */
+@Slf4j
+public class NearCache implements org.springframework.cache.Cache {
+
+    private final org.springframework.cache.Cache remoteCache;
+
+    private final Cache<Object, Object> localCache;
+
+    private final Cache<Object, Object> staleCache;
+
+    private final Map<Object, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    private final Executor refreshExecutor;
+
+    private final RTopic topic;
+
+    private final String nodeId;
+
+    private final Counter localHitCounter;
+
+    private final Counter remoteHitCounter;
+
+    private final Counter staleHitCounter;
+
+    private final Counter missCounter;
+
+    public NearCache(org.springframework.cache.Cache remoteCache, Cache<Object, Object> localCache,
+        Duration staleGracePeriod, Executor refreshExecutor, RTopic topic, String nodeId,
+        MeterRegistry meterRegistry) {
+        this.remoteCache = remoteCache;
+        this.localCache = localCache;
+        long localTtlNanos = localCache.policy().expireAfterWrite()
+            .map(expiration -> expiration.getExpiresAfter(TimeUnit.NANOSECONDS))
+            .orElse(0L);
+        this.staleCache = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(staleGracePeriod.plusNanos(localTtlNanos))
+            .build();
+        this.refreshExecutor = refreshExecutor;
+        this.topic = topic;
+        this.nodeId = nodeId;
+        this.localHitCounter = cacheGetCounter(meterRegistry, "hit", "local");
+        this.remoteHitCounter = cacheGetCounter(meterRegistry, "hit", "remote");
+        this.staleHitCounter = cacheGetCounter(meterRegistry, "hit", "stale");
+        this.missCounter = cacheGetCounter(meterRegistry, "miss", "none");
+        this.topic.addListener(NearCacheInvalidation.class, (channel, message) -> {
+            if (!nodeId.equals(message.getNodeId())) {
+                invalidateLocal(message.getKey());
+            }
+        });
+    }
+
+    @Override
+    public String getName() {
+        return remoteCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object localValue = localCache.getIfPresent(key);
+        if (localValue != null) {
+            localHitCounter.increment();
+            return new SimpleValueWrapper(localValue);
+        }
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue != null && remoteValue.get() != null) {
+            remoteHitCounter.increment();
+            putLocal(key, remoteValue.get());
+        } else {
+            missCounter.increment();
+        }
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper valueWrapper = get(key);
+        return valueWrapper == null ? null : (T) valueWrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper valueWrapper = get(key);
+        if (valueWrapper != null) {
+            return (T) valueWrapper.get();
+        }
+
+        Object staleValue = staleCache.getIfPresent(key);
+        if (staleValue != null) {
+            staleHitCounter.increment();
+            load(key, valueLoader, true);
+            return (T) staleValue;
+        }
+
+        try {
+            return (T) load(key, valueLoader, false).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        if (value != null) {
+            putLocal(key, value);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        invalidateLocal(key);
+        publish(key);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        invalidateLocal(null);
+        publish(null);
+    }
+
+    /**
+     * Starts loading the key unless a load for it is already running on this node, and returns
+     * the running load.
+     */
+    private CompletableFuture<Object> load(Object key, Callable<?> valueLoader, boolean async) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightLoad = inFlightLoads.putIfAbsent(key, future);
+        if (inFlightLoad != null) {
+            return inFlightLoad;
+        }
+
+        Runnable task = () -> {
+            try {
+                Object value = remoteCache.get(key, valueLoader);
+                if (value != null) {
+                    putLocal(key, value);
+                }
+                future.complete(value);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                inFlightLoads.remove(key, future);
+            }
+        };
+
+        if (!async) {
+            task.run();
+            return future;
+        }
+        try {
+            refreshExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // the stale value is still served and the next request retries the refresh
+            inFlightLoads.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private Counter cacheGetCounter(MeterRegistry meterRegistry, String result, String tier) {
+        return Counter.builder("cache.near.gets")
+            .description("Near cache lookups; hit ratio is hits / (hits + misses)")
+            .tag("cache", remoteCache.getName())
+            .tag("result", result)
+            .tag("tier", tier)
+            .register(meterRegistry);
+    }
+
+    private void putLocal(Object key, Object value) {
+        localCache.put(key, value);
+        staleCache.put(key, value);
+    }
+
+    /**
+     * Drops the key from L1 and keeps the old value for the stale grace period.
+     * A {@code null} key drops every entry.
+     */
+    private void invalidateLocal(Object key) {
+        if (key == null) {
+            staleCache.putAll(localCache.asMap());
+            localCache.invalidateAll();
+            return;
+        }
+        Object value = localCache.getIfPresent(key);
+        if (value != null) {
+            staleCache.put(key, value);
+        }
+        localCache.invalidate(key);
+    }
+
+    private void publish(Object key) {
+        try {
+            topic.publish(new NearCacheInvalidation(nodeId, key));
+        } catch (RuntimeException e) {
+            // other nodes still drop the entry once their local TTL expires
+            log.warn("Failed to publish invalidation for cache: {}", getName(), e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.thesurvey.api.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Message published to other API nodes when an entry of a {@link NearCache} is evicted.
+ * A {@code null} key means every entry of the cache was cleared.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class NearCacheInvalidation implements Serializable {
+
+    private String nodeId;
+
+    private Object key;
+
+    public NearCacheInvalidation(String nodeId, Object key) {
+        this.nodeId = nodeId;
+        this.key = key;
+    }
+}
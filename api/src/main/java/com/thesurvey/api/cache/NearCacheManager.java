@@ -0,0 +1,62 @@
+package com.thesurvey.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.redisson.api.RedissonClient;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link CacheManager} that puts a {@link NearCache} in front of the caches that have a local
+ * tier configured. Other caches are returned from the remote manager unchanged.
+ */
+public class NearCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+
+    private final RedissonClient redissonClient;
+
+    private final Map<String, Cache<Object, Object>> localCaches;
+
+    private final Duration staleGracePeriod;
+
+    private final Executor refreshExecutor;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, org.springframework.cache.Cache> nearCaches = new ConcurrentHashMap<>();
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public NearCacheManager(CacheManager remoteCacheManager, RedissonClient redissonClient,
+        Map<String, Cache<Object, Object>> localCaches, Duration staleGracePeriod,
+        Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redissonClient = redissonClient;
+        this.localCaches = localCaches;
+        this.staleGracePeriod = staleGracePeriod;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public org.springframework.cache.Cache getCache(String name) {
+        if (!localCaches.containsKey(name)) {
+            return remoteCacheManager.getCache(name);
+        }
+        return nearCaches.computeIfAbsent(name, cacheName -> new NearCache(
+            remoteCacheManager.getCache(cacheName), localCaches.get(cacheName), staleGracePeriod,
+            refreshExecutor, redissonClient.getTopic(cacheName + ":invalidation"), nodeId, meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+}
@@ -0,0 +1,51 @@
+package com.thesurvey.api.cache;
+
+import com.thesurvey.api.domain.EnumTypeEntity.QuestionType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable description of the questions of a survey that a submission is validated against: the
+ * type and required flag of each question and the ids of its options.
+ */
+public class SurveyAnswerPlan {
+
+    private final Map<Long, QuestionPlan> questionsByQuestionBankId;
+
+    public SurveyAnswerPlan(Map<Long, QuestionPlan> questionsByQuestionBankId) {
+        this.questionsByQuestionBankId = Collections.unmodifiableMap(questionsByQuestionBankId);
+    }
+
+    /**
+     * @return the question, or {@code null} if it does not belong to the survey
+     */
+    public QuestionPlan getQuestion(Long questionBankId) {
+        return questionsByQuestionBankId.get(questionBankId);
+    }
+
+    public Collection<QuestionPlan> getQuestions() {
+        return questionsByQuestionBankId.values();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class QuestionPlan {
+
+        private final Long questionBankId;
+
+        private final QuestionType questionType;
+
+        private final boolean required;
+
+        private final Set<Long> optionIds;
+
+        public boolean hasOption(Long questionOptionId) {
+            return optionIds.contains(questionOptionId);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.thesurvey.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thesurvey.api.cache.SurveyAnswerPlan.QuestionPlan;
+import com.thesurvey.api.dto.projection.QuestionOptionIdDto;
+import com.thesurvey.api.dto.projection.SurveyQuestionRuleDto;
+import com.thesurvey.api.repository.QuestionOptionRepository;
+import com.thesurvey.api.repository.QuestionRepository;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the {@link SurveyAnswerPlan} of recently answered surveys on this instance, so that a
+ * submission is validated without querying its questions.
+ * <p>
+ * A plan is built with two queries on the first submission and kept until the survey is updated or
+ * deleted. Invalidations are applied locally and published through Redis pub/sub to the other
+ * instances. Plans also expire after a while in case an invalidation is missed.
+ */
+@Component
+public class SurveyAnswerPlanCache {
+
+    public static final String TOPIC_NAME = "surveyAnswerPlan:invalidation";
+
+    private final Cache<Long, SurveyAnswerPlan> plans = Caffeine.newBuilder()
+        .maximumSize(10000)
+        .expireAfterWrite(10, TimeUnit.MINUTES)
+        .build();
+
+    private final QuestionRepository questionRepository;
+
+    private final QuestionOptionRepository questionOptionRepository;
+
+    private final RTopic topic;
+
+    public SurveyAnswerPlanCache(QuestionRepository questionRepository,
+        QuestionOptionRepository questionOptionRepository, RedissonClient redissonClient) {
+        this.questionRepository = questionRepository;
+        this.questionOptionRepository = questionOptionRepository;
+        this.topic = redissonClient.getTopic(TOPIC_NAME);
+        this.topic.addListener(SurveyAnswerPlanInvalidation.class,
+            (channel, message) -> plans.invalidate(message.getSurveyId()));
+    }
+
+    public SurveyAnswerPlan get(Long surveyId) {
+        // concurrent submissions of the same survey wait for a single build
+        return plans.get(surveyId, this::build);
+    }
+
+    /**
+     * Drops the plan now and again once the surrounding transaction commits, on every instance.
+     */
+    public void invalidate(Long surveyId) {
+        TransactionalCacheEviction.runNowAndAfterCommit(() -> {
+            plans.invalidate(surveyId);
+            topic.publishAsync(new SurveyAnswerPlanInvalidation(surveyId));
+        });
+    }
+
+    private SurveyAnswerPlan build(Long surveyId) {
+        Map<Long, Set<Long>> optionIdsByQuestionBankId = new HashMap<>();
+        for (QuestionOptionIdDto option : questionOptionRepository.findOptionIdsBySurveyId(surveyId)) {
+            optionIdsByQuestionBankId.computeIfAbsent(option.getQuestionBankId(), id -> new HashSet<>())
+                .add(option.getQuestionOptionId());
+        }
+        Map<Long, QuestionPlan> questions = new HashMap<>();
+        for (SurveyQuestionRuleDto question : questionRepository.findQuestionRulesBySurveyId(surveyId)) {
+            questions.put(question.getQuestionBankId(), new QuestionPlan(question.getQuestionBankId(),
+                question.getQuestionType(), question.getIsRequired(),
+                Set.copyOf(optionIdsByQuestionBankId.getOrDefault(question.getQuestionBankId(), Set.of()))));
+        }
+        return new SurveyAnswerPlan(questions);
+    }
+}
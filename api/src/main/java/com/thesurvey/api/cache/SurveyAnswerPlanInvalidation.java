@@ -0,0 +1,21 @@
+package com.thesurvey.api.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Message published to other API nodes when the {@link SurveyAnswerPlan} of a survey is invalidated.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SurveyAnswerPlanInvalidation implements Serializable {
+
+    private Long surveyId;
+
+    public SurveyAnswerPlanInvalidation(Long surveyId) {
+        this.surveyId = surveyId;
+    }
+}
@@ -0,0 +1,8 @@
+package com.thesurvey.api.cache;
+
+/**
+ * Published after every page of {@code surveyListCache} has been evicted and the evicting
+ * transaction has committed.
+ */
+public class SurveyListCacheClearedEvent {
+}
@@ -0,0 +1,170 @@
+package com.thesurvey.api.cache;
+
+import com.thesurvey.api.dto.response.survey.SurveyListPageDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a page-to-survey index of {@code surveyListCache} so that a change to a survey only
+ * evicts the pages it can affect instead of every cached page.
+ * <ul>
+ *     <li>A new survey shifts every page, so all pages are evicted.</li>
+ *     <li>An updated survey only evicts the pages that contain it.</li>
+ *     <li>A deleted or ended survey evicts the page that contains it and every page after it.
+ *     The pages before it keep their surveys, so only their totals are rewritten.</li>
+ * </ul>
+ * Evictions run immediately and once more after the surrounding transaction commits, so a page
+ * cached from the old state while the transaction was in flight is dropped as well.
+ */
+@Slf4j
+@Component
+public class SurveyListCacheIndex {
+
+    public static final String CACHE_NAME = "surveyListCache";
+
+    private final CacheManager cacheManager;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final RMapCache<Integer, List<Long>> pageIndex;
+
+    private final RBucket<LocalDateTime> expiryCheckpoint;
+
+    private final Counter pageEvictionCounter;
+
+    private final Counter allEvictionCounter;
+
+    public SurveyListCacheIndex(CacheManager cacheManager, ApplicationEventPublisher eventPublisher,
+        RedissonClient redissonClient, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.pageIndex = redissonClient.getMapCache(CACHE_NAME + ":index");
+        this.expiryCheckpoint = redissonClient.getBucket(CACHE_NAME + ":expiry-checkpoint");
+        this.pageEvictionCounter = evictionCounter(meterRegistry, "page");
+        this.allEvictionCounter = evictionCounter(meterRegistry, "all");
+    }
+
+    /**
+     * Records the surveys shown on a cached page. The entry lives as long as the cached page.
+     */
+    public void record(int page, List<Long> surveyIds) {
+        pageIndex.fastPut(page, new ArrayList<>(surveyIds), 1, TimeUnit.HOURS);
+    }
+
+    /**
+     * Returns the first cached page that contains the survey, or {@code null} if no cached page
+     * contains it.
+     */
+    public Integer findFirstPage(Long surveyId) {
+        return pageIndex.readAllMap().entrySet().stream()
+            .filter(entry -> entry.getValue().contains(surveyId))
+            .map(Map.Entry::getKey)
+            .min(Integer::compareTo)
+            .orElse(null);
+    }
+
+    public void evictAll() {
+        TransactionalCacheEviction.runNowAndAfterCommit(() -> {
+            getCache().clear();
+            pageIndex.clear();
+            allEvictionCounter.increment();
+        });
+        TransactionalCacheEviction.runAfterCommit(
+            () -> eventPublisher.publishEvent(new SurveyListCacheClearedEvent()));
+    }
+
+    public void evictPagesContaining(Long surveyId) {
+        TransactionalCacheEviction.runNowAndAfterCommit(() -> pageIndex.readAllMap().forEach((page, surveyIds) -> {
+            if (surveyIds.contains(surveyId)) {
+                evictPage(page);
+            }
+        }));
+    }
+
+    /**
+     * Evicts the pages shifted by removing surveys from the list, and subtracts the removed
+     * surveys from the totals of the cached pages before them.
+     *
+     * @param firstPage    the first page that contained a removed survey
+     * @param removedCount the number of surveys removed from the list
+     * @param pageSize     the number of surveys on a list page
+     */
+    public void evictPagesFrom(int firstPage, int removedCount, int pageSize) {
+        TransactionalCacheEviction.runNowAndAfterCommit(() -> pageIndex.readAllKeySet().stream()
+            .filter(page -> page >= firstPage)
+            .forEach(this::evictPage));
+        TransactionalCacheEviction.runAfterCommit(() -> pageIndex.readAllKeySet().stream()
+            .filter(page -> page < firstPage)
+            .forEach(page -> subtractTotals(page, removedCount, pageSize)));
+    }
+
+    /**
+     * Moves the expiry checkpoint to {@code now} and returns the previous checkpoint. Surveys
+     * that ended between the two have to be removed from the cached pages. Only one node gets
+     * each window since the checkpoint is swapped atomically.
+     */
+    public LocalDateTime swapExpiryCheckpoint(LocalDateTime now) {
+        LocalDateTime previous = expiryCheckpoint.getAndSet(now);
+        // nothing older than the cache TTL can still be cached
+        return previous == null ? now.minusHours(1) : previous;
+    }
+
+    /**
+     * Moves the expiry checkpoint back from {@code now} to {@code previous} after the surveys of
+     * the window failed to be evicted, so that the next run evicts them. Does nothing if another
+     * run has moved the checkpoint since.
+     */
+    public void restoreExpiryCheckpoint(LocalDateTime previous, LocalDateTime now) {
+        expiryCheckpoint.compareAndSet(now, previous);
+    }
+
+    private void subtractTotals(Integer page, int removedCount, int pageSize) {
+        Cache cache = getCache();
+        SurveyListPageDto cached = cache.get(page, SurveyListPageDto.class);
+        if (cached == null) {
+            return;
+        }
+        long totalSurveys = Math.max(cached.getTotalSurveys() - removedCount, 0);
+        int totalPages = (int) Math.ceil((double) totalSurveys / pageSize);
+        // evict first so the other nodes drop their local copy
+        cache.evict(page);
+        cache.put(page, cached.toBuilder()
+            .totalSurveys(totalSurveys)
+            .totalPages(totalPages)
+            .version(UUID.randomUUID().toString())
+            .build());
+    }
+
+    private void evictPage(Integer page) {
+        getCache().evict(page);
+        pageIndex.fastRemove(page);
+        pageEvictionCounter.increment();
+        log.debug("Evicted page {} from {}", page, CACHE_NAME);
+    }
+
+    private Cache getCache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    private Counter evictionCounter(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("cache.survey.list.evictions")
+            .description("Evictions of surveyListCache by scope")
+            .tag("scope", scope)
+            .register(meterRegistry);
+    }
+}
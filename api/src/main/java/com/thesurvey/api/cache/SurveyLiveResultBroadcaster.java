@@ -0,0 +1,396 @@
+package com.thesurvey.api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionDto;
+import com.thesurvey.api.dto.response.user.OptionCountDeltaDto;
+import com.thesurvey.api.dto.response.user.SurveyResultDeltaDto;
+import com.thesurvey.api.dto.response.user.UserSurveyResultDto;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Pushes live result deltas of surveys to Server-Sent Events subscribers.
+ * <p>
+ * Every committed submission is published once on a Redis topic with its response version, which
+ * numbers the submissions of a survey in commit order. A subscriber starts from a snapshot of the
+ * result taken at a known version. Each node keeps the deltas of the surveys it has subscribers for
+ * and, every flush interval, sends each subscriber one frame merging the deltas that directly follow
+ * its version, so a submission is neither missed nor counted twice. A frame is serialized once for
+ * all subscribers at the same version. Emitters are served through servlet async processing, so an
+ * open stream holds no request thread.
+ * <p>
+ * Writes to a client block once its socket buffer is full, so they never run on the scheduler thread,
+ * which other scheduled jobs share. Frames are queued per subscriber and written in order by a bounded
+ * pool of sender threads. A subscriber whose write stalls for longer than the stall timeout, or whose
+ * queue keeps growing, is dropped, so that one slow client only ever holds a single sender.
+ */
+@Slf4j
+@Component
+public class SurveyLiveResultBroadcaster {
+
+    public static final String TOPIC_NAME = "surveyLiveResult";
+
+    private static final long EMITTER_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private static final int MAX_QUEUED_FRAMES = 16;
+
+    private static final int MAX_QUEUED_SUBSCRIBERS = 10000;
+
+    private final RTopic topic;
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration gapTimeout;
+
+    private final Duration stallTimeout;
+
+    private final ExecutorService senders;
+
+    private final Map<Long, List<Subscriber>> subscribersBySurveyId = new ConcurrentHashMap<>();
+
+    private final Map<Long, NavigableMap<Long, SurveyResultDelta>> deltasBySurveyId = new ConcurrentHashMap<>();
+
+    public SurveyLiveResultBroadcaster(RedissonClient redissonClient, ObjectMapper objectMapper,
+        @Value("${survey.live.gap-timeout:PT5S}") Duration gapTimeout,
+        @Value("${survey.live.stall-timeout:PT10S}") Duration stallTimeout,
+        @Value("${survey.live.sender-threads:4}") int senderThreads) {
+        this.topic = redissonClient.getTopic(TOPIC_NAME);
+        this.objectMapper = objectMapper;
+        this.gapTimeout = gapTimeout;
+        this.stallTimeout = stallTimeout;
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(MAX_QUEUED_SUBSCRIBERS), new CustomizableThreadFactory("survey-live-"));
+        this.topic.addListener(SurveyResultDelta.class, (channel, message) -> {
+            // only surveys with subscribers on this node are tracked
+            if (subscribersBySurveyId.containsKey(message.getSurveyId())) {
+                deltasBySurveyId.computeIfAbsent(message.getSurveyId(), id -> new ConcurrentSkipListMap<>())
+                    .put(message.getVersion(), message);
+            }
+        });
+    }
+
+    /**
+     * Publishes the option counts added by a submission once the surrounding transaction commits.
+     *
+     * @param version the response version of the submission
+     */
+    public void publish(Long surveyId, long version, List<AnsweredQuestionDto> answers) {
+        Map<Long, Long> optionDeltas = new HashMap<>();
+        for (AnsweredQuestionDto answer : answers) {
+            if (answer.getMultipleChoices() != null && !answer.getMultipleChoices().isEmpty()) {
+                answer.getMultipleChoices().forEach(option -> optionDeltas.merge(option, 1L, Long::sum));
+            } else if (answer.getSingleChoice() != null) {
+                optionDeltas.merge(answer.getSingleChoice(), 1L, Long::sum);
+            }
+        }
+        SurveyResultDelta delta = new SurveyResultDelta(surveyId, version, 1, optionDeltas);
+        TransactionalCacheEviction.runAfterCommit(() -> topic.publishAsync(delta));
+    }
+
+    /**
+     * Subscribes to the result deltas of the survey and sends the snapshot first. The subscriber is
+     * registered before the snapshot is taken, so that every submission the snapshot misses arrives as
+     * a delta after its version.
+     *
+     * @param snapshot loads the current result with its response version
+     */
+    public SseEmitter subscribe(Long surveyId, Supplier<UserSurveyResultDto> snapshot) {
+        Subscriber subscriber = new Subscriber(surveyId, new SseEmitter(EMITTER_TIMEOUT_MILLIS));
+        // added within compute, like unsubscribe removes, so the list cannot be dropped from the map meanwhile
+        subscribersBySurveyId.compute(surveyId, (id, subscribers) -> {
+            List<Subscriber> list = subscribers != null ? subscribers : new CopyOnWriteArrayList<>();
+            list.add(subscriber);
+            return list;
+        });
+        Runnable remove = () -> unsubscribe(subscriber);
+        subscriber.emitter.onCompletion(remove);
+        subscriber.emitter.onTimeout(remove);
+        subscriber.emitter.onError(error -> remove.run());
+
+        UserSurveyResultDto result;
+        try {
+            result = snapshot.get();
+        } catch (RuntimeException e) {
+            unsubscribe(subscriber);
+            throw e;
+        }
+        send(subscriber, SseEmitter.event().name("result").data(result, MediaType.APPLICATION_JSON));
+        subscriber.version = result.getVersion();
+        return subscriber.emitter;
+    }
+
+    /**
+     * Queues for each subscriber the deltas received since its version, one frame per subscriber.
+     */
+    @Scheduled(fixedDelayString = "${survey.live.interval-millis:1000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        subscribersBySurveyId.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            if (subscriber.isStalled(now, stallTimeout.toMillis())) {
+                drop(subscriber, "its write stalled");
+            }
+        }));
+        deltasBySurveyId.forEach((surveyId, deltas) -> {
+            List<Subscriber> subscribers = subscribersBySurveyId.get(surveyId);
+            if (subscribers == null) {
+                deltasBySurveyId.remove(surveyId, deltas);
+                return;
+            }
+            // subscribers mostly share a version, so their frame is built once
+            Map<Long, Frame> framesByVersion = new HashMap<>();
+            long seenByAll = Long.MAX_VALUE;
+            for (Subscriber subscriber : subscribers) {
+                Long version = subscriber.version;
+                if (version == null) {
+                    // still taking its snapshot, which may be older than what the others have seen
+                    seenByAll = Long.MIN_VALUE;
+                    continue;
+                }
+                Frame frame = framesByVersion.computeIfAbsent(version, from -> toFrame(surveyId, from, deltas));
+                if (frame != null) {
+                    send(subscriber, SseEmitter.event().name("delta").data(frame.data, MediaType.APPLICATION_JSON));
+                    subscriber.version = frame.version;
+                }
+                if (subscriber.closed || !checkGap(subscriber, deltas, now)) {
+                    continue;
+                }
+                seenByAll = Math.min(seenByAll, subscriber.version);
+            }
+            deltas.headMap(seenByAll, true).clear();
+        });
+    }
+
+    /**
+     * Keeps idle streams open through proxies and detects clients that went away.
+     */
+    @Scheduled(fixedDelay = 20000)
+    public void heartbeat() {
+        subscribersBySurveyId.values().forEach(subscribers ->
+            subscribers.forEach(subscriber -> send(subscriber, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    /**
+     * Merges the deltas that directly follow {@code from}, stopping at the first missing version.
+     *
+     * @return the frame, or {@code null} if the delta after {@code from} has not been received
+     */
+    private Frame toFrame(Long surveyId, long from, NavigableMap<Long, SurveyResultDelta> deltas) {
+        long version = from;
+        long respondentDelta = 0;
+        Map<Long, Long> optionDeltas = new HashMap<>();
+        for (SurveyResultDelta delta : deltas.tailMap(from, false).values()) {
+            if (delta.getVersion() != version + 1) {
+                break;
+            }
+            version = delta.getVersion();
+            respondentDelta += delta.getRespondentDelta();
+            delta.getOptionDeltas().forEach((option, count) -> optionDeltas.merge(option, count, Long::sum));
+        }
+        if (version == from) {
+            return null;
+        }
+        SurveyResultDeltaDto deltaDto = SurveyResultDeltaDto.builder()
+            .surveyId(surveyId)
+            .version(version)
+            .respondentDelta(respondentDelta)
+            .optionDeltas(optionDeltas.entrySet().stream()
+                .map(option -> OptionCountDeltaDto.builder()
+                    .questionOptionId(option.getKey())
+                    .delta(option.getValue())
+                    .build())
+                .collect(Collectors.toList()))
+            .build();
+        try {
+            return new Frame(version, objectMapper.writeValueAsString(deltaDto));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize live result delta of survey ID: {}", surveyId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Ends the stream of a subscriber whose next delta has been missing for longer than the gap
+     * timeout while later ones arrived, as happens when a message is lost. The client then reconnects
+     * and starts from a fresh snapshot.
+     *
+     * @return {@code false} if the subscriber was ended
+     */
+    private boolean checkGap(Subscriber subscriber, NavigableMap<Long, SurveyResultDelta> deltas, long now) {
+        if (deltas.higherKey(subscriber.version) == null) {
+            subscriber.gapSince = 0;
+            return true;
+        }
+        if (subscriber.gapSince == 0) {
+            subscriber.gapSince = now;
+        } else if (now - subscriber.gapSince > gapTimeout.toMillis()) {
+            drop(subscriber, "the delta after version " + subscriber.version + " is missing");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Queues the event for the subscriber and makes sure a sender is writing its queue.
+     */
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.closed) {
+            return;
+        }
+        if (subscriber.queuedFrames.incrementAndGet() > MAX_QUEUED_FRAMES) {
+            drop(subscriber, "it falls behind");
+            return;
+        }
+        subscriber.frames.add(event);
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+                drop(subscriber, "all senders are busy");
+            }
+        }
+    }
+
+    /**
+     * Writes the queued events of the subscriber in order, on a sender thread.
+     */
+    private void drain(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while (!subscriber.closed && (event = subscriber.frames.poll()) != null) {
+                subscriber.queuedFrames.decrementAndGet();
+                subscriber.writingSince = System.currentTimeMillis();
+                try {
+                    subscriber.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // the client went away; its queue is never drained again
+                    subscriber.closed = true;
+                    unsubscribe(subscriber);
+                    subscriber.emitter.completeWithError(e);
+                    return;
+                } finally {
+                    subscriber.writingSince = 0;
+                }
+            }
+            if (subscriber.closed) {
+                // dropped meanwhile; the sender keeps the draining flag so that no other one starts
+                subscriber.emitter.complete();
+                return;
+            }
+            subscriber.draining.set(false);
+            // an event queued after the last poll but before the flag was cleared has no sender yet
+        } while ((!subscriber.frames.isEmpty() || subscriber.closed)
+            && subscriber.draining.compareAndSet(false, true));
+    }
+
+    /**
+     * Unsubscribes the subscriber and completes its emitter. {@link SseEmitter} serializes sends and
+     * completion, so the emitter is completed by its sender once the write in progress, if any, returns,
+     * and never by the scheduler thread.
+     */
+    private void drop(Subscriber subscriber, String reason) {
+        log.warn("Dropping live result subscriber of survey ID: {} since {}", subscriber.surveyId, reason);
+        subscriber.closed = true;
+        unsubscribe(subscriber);
+        subscriber.frames.clear();
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // no sender holds the emitter, so it can be completed here
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribersBySurveyId.computeIfPresent(subscriber.surveyId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private static class Subscriber {
+
+        private final Long surveyId;
+
+        private final SseEmitter emitter;
+
+        /**
+         * The response version the subscriber has received, or {@code null} until its snapshot is sent.
+         */
+        private volatile Long version;
+
+        private long gapSince;
+
+        private final Queue<SseEmitter.SseEventBuilder> frames = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger queuedFrames = new AtomicInteger();
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private volatile boolean closed;
+
+        /**
+         * When the write in progress started, or 0 if none is.
+         */
+        private volatile long writingSince;
+
+        Subscriber(Long surveyId, SseEmitter emitter) {
+            this.surveyId = surveyId;
+            this.emitter = emitter;
+        }
+
+        boolean isStalled(long now, long stallTimeoutMillis) {
+            long since = writingSince;
+            return since != 0 && now - since > stallTimeoutMillis;
+        }
+    }
+
+    private static class Frame {
+
+        private final long version;
+
+        private final String data;
+
+        Frame(long version, String data) {
+            this.version = version;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.thesurvey.api.cache;
+
+import com.thesurvey.api.repository.AnsweredQuestionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records which users have answered each survey in a Redis bitmap, one bit per user ID.
+ * <p>
+ * A submission is accepted by setting its bit with {@code SETBIT}, which returns the previous bit, so
+ * of any number of concurrent submissions of the same user exactly one is accepted. Checking whether
+ * a user has answered is a single {@code GETBIT}. The bitmap of a survey answered before the index
+ * existed is built from the stored answers on first use. A rebuild writes the new bitmap under a
+ * separate key and renames it over the live one, so the index never goes missing while submissions
+ * run. Should a duplicate still get past the index, for example after the bitmap was lost, the primary
+ * key of its participation rejects it as already answered, keeping the mark of the stored answers.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SurveyParticipationIndex {
+
+    private static final String KEY_PREFIX = "surveyParticipants:{";
+
+    private static final int BUILD_CHUNK_SIZE = 10000;
+
+    /**
+     * KEYS: bitmap, built marker. ARGV: user ID. Returns the previous bit, or -1 if not built.
+     */
+    private static final String MARK_SCRIPT =
+        "if redis.call('EXISTS', KEYS[2]) == 0 then return -1 end "
+            + "return redis.call('SETBIT', KEYS[1], ARGV[1], 1)";
+
+    /**
+     * KEYS: bitmap, built marker. ARGV: user ID. Returns the bit, or -1 if not built.
+     */
+    private static final String GET_SCRIPT =
+        "if redis.call('EXISTS', KEYS[2]) == 0 then return -1 end "
+            + "return redis.call('GETBIT', KEYS[1], ARGV[1])";
+
+    /**
+     * KEYS: bitmap, built marker, replacement bitmap. ARGV: whether to replace the bitmap, whether this
+     * is the first chunk, whether this is the last chunk, then the user IDs to set. A replacement is
+     * built under its own key and renamed over the bitmap with the last chunk.
+     */
+    private static final String BUILD_SCRIPT =
+        "local target = KEYS[1] "
+            + "if ARGV[1] == '1' then target = KEYS[3] "
+            + "if ARGV[2] == '1' then redis.call('DEL', target) end end "
+            + "for i = 4, #ARGV do redis.call('SETBIT', target, ARGV[i], 1) end "
+            + "if ARGV[3] == '1' then "
+            + "if ARGV[1] == '1' then "
+            + "if redis.call('EXISTS', target) == 1 then redis.call('RENAME', target, KEYS[1]) "
+            + "else redis.call('DEL', KEYS[1]) end end "
+            + "redis.call('SET', KEYS[2], 1) end "
+            + "return 1";
+
+    private final RedissonClient redissonClient;
+
+    private final AnsweredQuestionRepository answeredQuestionRepository;
+
+    public boolean hasAnswered(Long surveyId, Long userId) {
+        long bit = eval(RScript.Mode.READ_ONLY, GET_SCRIPT, surveyId, userId);
+        if (bit < 0) {
+            build(surveyId, false);
+            bit = eval(RScript.Mode.READ_ONLY, GET_SCRIPT, surveyId, userId);
+        }
+        return bit == 1;
+    }
+
+    /**
+     * Marks the user as having answered the survey.
+     *
+     * @return {@code false} if the user was marked already
+     */
+    public boolean markAnswered(Long surveyId, Long userId) {
+        long previous = eval(RScript.Mode.READ_WRITE, MARK_SCRIPT, surveyId, userId);
+        if (previous < 0) {
+            build(surveyId, false);
+            previous = eval(RScript.Mode.READ_WRITE, MARK_SCRIPT, surveyId, userId);
+        }
+        return previous == 0;
+    }
+
+    /**
+     * Takes back the mark of a submission that was not stored after all. Only the submission whose
+     * {@link #markAnswered} set the mark may take it back.
+     */
+    public void unmarkAnswered(Long surveyId, Long userId) {
+        redissonClient.getBitSet(bitmapKey(surveyId)).clear(userId);
+    }
+
+    /**
+     * Starts the empty index of a new survey, replacing any left over under a reused ID.
+     */
+    public void initialize(Long surveyId) {
+        build(surveyId, List.of(), true);
+    }
+
+    /**
+     * Replaces the index of the survey with the users of its stored answers.
+     */
+    public void rebuild(Long surveyId) {
+        build(surveyId, true);
+    }
+
+    public void delete(Long surveyId) {
+        TransactionalCacheEviction.runAfterCommit(() ->
+            redissonClient.getKeys().delete(bitmapKey(surveyId), builtKey(surveyId), replacementKey(surveyId)));
+    }
+
+    private void build(Long surveyId, boolean replace) {
+        List<Long> userIds = answeredQuestionRepository.findUserIdsBySurveyId(surveyId);
+        log.info("Building participation index of survey ID: {} from {} respondents", surveyId, userIds.size());
+        build(surveyId, userIds, replace);
+    }
+
+    private void build(Long surveyId, List<Long> userIds, boolean replace) {
+        int from = 0;
+        do {
+            int to = Math.min(from + BUILD_CHUNK_SIZE, userIds.size());
+            List<Object> args = new ArrayList<>();
+            // only the last chunk swaps in a replacement and marks the index as built
+            args.add(replace ? "1" : "0");
+            args.add(from == 0 ? "1" : "0");
+            args.add(to == userIds.size() ? "1" : "0");
+            userIds.subList(from, to).forEach(userId -> args.add(String.valueOf(userId)));
+            redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, BUILD_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.<Object>of(bitmapKey(surveyId), builtKey(surveyId), replacementKey(surveyId)), args.toArray());
+            from = to;
+        } while (from < userIds.size());
+    }
+
+    private long eval(RScript.Mode mode, String script, Long surveyId, Long userId) {
+        return redissonClient.getScript(StringCodec.INSTANCE).<Long>eval(mode, script, RScript.ReturnType.INTEGER,
+            List.<Object>of(bitmapKey(surveyId), builtKey(surveyId)), String.valueOf(userId));
+    }
+
+    private String bitmapKey(Long surveyId) {
+        return KEY_PREFIX + surveyId + "}";
+    }
+
+    private String builtKey(Long surveyId) {
+        return KEY_PREFIX + surveyId + "}:built";
+    }
+
+    private String replacementKey(Long surveyId) {
+        return KEY_PREFIX + surveyId + "}:replacement";
+    }
+}
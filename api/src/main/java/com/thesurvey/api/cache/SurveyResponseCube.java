@@ -0,0 +1,319 @@
+package com.thesurvey.api.cache;
+
+import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Columnar copy of the choice answers of one survey, with one primitive column per choice question
+ * indexed by respondent ordinal.
+ * <p>
+ * A single choice column holds the chosen option ordinal plus one, or zero for no answer. A multiple
+ * choice column holds a bitset of the chosen option ordinals, {@code words} longs per respondent.
+ * Cross-tabs are computed with plain loops over these arrays. Appends and reads are guarded by a
+ * read-write lock, so concurrent reads do not block each other.
+ */
+public class SurveyResponseCube {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final long[] questionBankIds;
+
+    private final long[][] optionIds;
+
+    private final String[][] options;
+
+    private final int[] words;
+
+    private final Map<Long, Integer> columnByQuestionBankId = new HashMap<>();
+
+    private final Map<Long, int[]> columnAndOrdinalByOptionId = new HashMap<>();
+
+    private final int[][] singleColumns;
+
+    private final long[][] multipleColumns;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int capacity = INITIAL_CAPACITY;
+
+    /**
+     * User id of each respondent, ascending up to {@code builtSize} since the build reads them in order.
+     */
+    private long[] userIds = new long[INITIAL_CAPACITY];
+
+    private int builtSize;
+
+    private int size;
+
+    private long version;
+
+    /**
+     * @param questionBankIds the choice questions of the survey
+     * @param optionIds       the option ids of each question, in ordinal order
+     * @param options         the option texts of each question, in ordinal order
+     * @param multipleChoice  whether each question allows several options
+     * @param version         the response version the cube is built from
+     */
+    public SurveyResponseCube(long[] questionBankIds, long[][] optionIds, String[][] options,
+        boolean[] multipleChoice, long version) {
+        this.questionBankIds = questionBankIds;
+        this.optionIds = optionIds;
+        this.options = options;
+        this.words = new int[questionBankIds.length];
+        this.singleColumns = new int[questionBankIds.length][];
+        this.multipleColumns = new long[questionBankIds.length][];
+        this.version = version;
+        for (int column = 0; column < questionBankIds.length; column++) {
+            columnByQuestionBankId.put(questionBankIds[column], column);
+            for (int ordinal = 0; ordinal < optionIds[column].length; ordinal++) {
+                columnAndOrdinalByOptionId.put(optionIds[column][ordinal], new int[]{column, ordinal});
+            }
+            if (multipleChoice[column]) {
+                words[column] = Math.max(1, (optionIds[column].length + 63) >>> 6);
+                multipleColumns[column] = new long[capacity * words[column]];
+            } else {
+                singleColumns[column] = new int[capacity];
+            }
+        }
+    }
+
+    public long getVersion() {
+        lock.readLock().lock();
+        try {
+            return version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getSize() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Approximate number of array slots held, used to bound the number of cached cubes.
+     */
+    public int weight() {
+        int weight = userIds.length;
+        for (int column = 0; column < questionBankIds.length; column++) {
+            weight += singleColumns[column] != null ? singleColumns[column].length : multipleColumns[column].length;
+        }
+        return weight;
+    }
+
+    public int getColumnCount() {
+        return questionBankIds.length;
+    }
+
+    public Integer findColumn(Long questionBankId) {
+        return columnByQuestionBankId.get(questionBankId);
+    }
+
+    /**
+     * @return the column and ordinal of the option, or {@code null} if it belongs to no choice question
+     */
+    public int[] findColumnAndOrdinal(Long questionOptionId) {
+        return columnAndOrdinalByOptionId.get(questionOptionId);
+    }
+
+    public long getQuestionBankId(int column) {
+        return questionBankIds[column];
+    }
+
+    public long[] getOptionIds(int column) {
+        return optionIds[column];
+    }
+
+    public String[] getOptions(int column) {
+        return options[column];
+    }
+
+    /**
+     * Creates an empty filter bitset for the options of the column.
+     */
+    public long[] newFilter(int column) {
+        return new long[Math.max(1, (optionIds[column].length + 63) >>> 6)];
+    }
+
+    /**
+     * Records a chosen option while the cube is being built, before it is published. Options must be
+     * added in ascending order of user id.
+     */
+    public void add(long userId, long questionOptionId) {
+        int[] columnAndOrdinal = columnAndOrdinalByOptionId.get(questionOptionId);
+        if (columnAndOrdinal == null) {
+            return;
+        }
+        int respondent = size > 0 && userIds[size - 1] == userId ? size - 1 : newRespondent(userId);
+        builtSize = size;
+        set(respondent, columnAndOrdinal[0], columnAndOrdinal[1]);
+    }
+
+    /**
+     * Appends one submission committed as the given response version.
+     *
+     * @return {@code false} if the cube missed an earlier version and has to be rebuilt
+     */
+    public boolean append(long submittedVersion, long userId, List<AnsweredQuestionDto> answers) {
+        lock.writeLock().lock();
+        try {
+            if (version >= submittedVersion) {
+                // built after the submission committed, so it already includes it
+                return true;
+            }
+            if (version != submittedVersion - 1) {
+                return false;
+            }
+            version = submittedVersion;
+            // the build may have read the submission before its version was bumped
+            if (Arrays.binarySearch(userIds, 0, builtSize, userId) >= 0) {
+                return true;
+            }
+            int respondent = -1;
+            for (AnsweredQuestionDto answer : answers) {
+                List<Long> options = answer.getSingleChoice() != null
+                    ? List.of(answer.getSingleChoice()) : answer.getMultipleChoices();
+                if (options == null) {
+                    continue;
+                }
+                for (Long option : options) {
+                    int[] columnAndOrdinal = columnAndOrdinalByOptionId.get(option);
+                    if (columnAndOrdinal != null) {
+                        respondent = respondent < 0 ? newRespondent(userId) : respondent;
+                        set(respondent, columnAndOrdinal[0], columnAndOrdinal[1]);
+                    }
+                }
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the respondents matching every filter by the combination of options they chose in the
+     * given columns. A multiple choice answer counts once for each of its options.
+     *
+     * @param columns the columns to break down by
+     * @param filters per column, a bitset of the accepted ordinals, or {@code null} for no filter
+     */
+    public CrossTab crossTab(int[] columns, long[][] filters) {
+        int[] strides = new int[columns.length];
+        int cellCount = 1;
+        for (int i = columns.length - 1; i >= 0; i--) {
+            strides[i] = cellCount;
+            cellCount *= optionIds[columns[i]].length;
+        }
+        long[] cells = new long[cellCount];
+
+        lock.readLock().lock();
+        try {
+            long matched = 0;
+            for (int respondent = 0; respondent < size; respondent++) {
+                if (matches(respondent, filters)) {
+                    matched++;
+                    accumulate(respondent, columns, strides, 0, 0, cells);
+                }
+            }
+            return new CrossTab(matched, cells);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean matches(int respondent, long[][] filters) {
+        for (int column = 0; column < filters.length; column++) {
+            long[] filter = filters[column];
+            if (filter == null) {
+                continue;
+            }
+            boolean matched = false;
+            if (singleColumns[column] != null) {
+                int code = singleColumns[column][respondent];
+                matched = code != 0 && (filter[(code - 1) >>> 6] & (1L << (code - 1))) != 0;
+            } else {
+                int offset = respondent * words[column];
+                for (int word = 0; word < words[column] && !matched; word++) {
+                    matched = (multipleColumns[column][offset + word] & filter[word]) != 0;
+                }
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void accumulate(int respondent, int[] columns, int[] strides, int depth, int index, long[] cells) {
+        if (depth == columns.length) {
+            cells[index]++;
+            return;
+        }
+        int column = columns[depth];
+        if (singleColumns[column] != null) {
+            int code = singleColumns[column][respondent];
+            if (code != 0) {
+                accumulate(respondent, columns, strides, depth + 1, index + (code - 1) * strides[depth], cells);
+            }
+            return;
+        }
+        int offset = respondent * words[column];
+        for (int word = 0; word < words[column]; word++) {
+            long bits = multipleColumns[column][offset + word];
+            while (bits != 0) {
+                int ordinal = (word << 6) + Long.numberOfTrailingZeros(bits);
+                accumulate(respondent, columns, strides, depth + 1, index + ordinal * strides[depth], cells);
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    private int newRespondent(long userId) {
+        if (size == capacity) {
+            capacity *= 2;
+            userIds = Arrays.copyOf(userIds, capacity);
+            for (int column = 0; column < questionBankIds.length; column++) {
+                if (singleColumns[column] != null) {
+                    singleColumns[column] = Arrays.copyOf(singleColumns[column], capacity);
+                } else {
+                    multipleColumns[column] = Arrays.copyOf(multipleColumns[column], capacity * words[column]);
+                }
+            }
+        }
+        userIds[size] = userId;
+        return size++;
+    }
+
+    private void set(int respondent, int column, int ordinal) {
+        if (singleColumns[column] != null) {
+            singleColumns[column][respondent] = ordinal + 1;
+        } else {
+            multipleColumns[column][respondent * words[column] + (ordinal >>> 6)] |= 1L << ordinal;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class CrossTab {
+
+        private final long matchedCount;
+
+        /**
+         * Counts in row-major order of the columns' option ordinals.
+         */
+        private final long[] cells;
+    }
+}
@@ -0,0 +1,210 @@
+package com.thesurvey.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thesurvey.api.domain.EnumTypeEntity.QuestionType;
+import com.thesurvey.api.domain.QuestionOption;
+import com.thesurvey.api.dto.projection.SurveyQuestionBankDto;
+import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionDto;
+import com.thesurvey.api.repository.QuestionOptionRepository;
+import com.thesurvey.api.repository.QuestionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the {@link SurveyResponseCube} of recently analysed surveys on this instance.
+ * <p>
+ * A cube is built lazily from {@code answered_question} and tagged with the response version of
+ * {@link SurveyResultCache} read before the build. Submissions on this instance are appended after
+ * commit when they directly follow the cube's version. A cube that falls behind, because of a
+ * submission on another instance, an out of order append or a change to the survey, keeps being
+ * served while a single background build catches up. Builds run outside the cache, so concurrent
+ * readers of a survey without a cube wait for one build without locking other surveys.
+ */
+@Slf4j
+@Component
+public class SurveyResponseCubeCache {
+
+    /**
+     * Bounds the total number of array slots held by all cubes, roughly 256MB at eight bytes each.
+     */
+    private static final long MAX_WEIGHT = 32 * 1024 * 1024;
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String CHOICE_ANSWERS_QUERY =
+        "SELECT aq.user_id, aq.single_choice, aq.multiple_choices FROM answered_question aq "
+            + "WHERE aq.survey_id = ? AND (aq.single_choice IS NOT NULL OR aq.multiple_choices IS NOT NULL) "
+            + "ORDER BY aq.user_id";
+
+    private final Cache<Long, SurveyResponseCube> cubes = Caffeine.newBuilder()
+        .maximumWeight(MAX_WEIGHT)
+        .weigher((Long surveyId, SurveyResponseCube cube) -> cube.weight())
+        .expireAfterAccess(30, TimeUnit.MINUTES)
+        .build();
+
+    private final Map<Long, CompletableFuture<SurveyResponseCube>> inFlightBuilds = new ConcurrentHashMap<>();
+
+    private final SurveyResultCache surveyResultCache;
+
+    private final QuestionRepository questionRepository;
+
+    private final QuestionOptionRepository questionOptionRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final CacheRefreshExecutor cacheRefreshExecutor;
+
+    public SurveyResponseCubeCache(SurveyResultCache surveyResultCache, QuestionRepository questionRepository,
+        QuestionOptionRepository questionOptionRepository, JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager, CacheRefreshExecutor cacheRefreshExecutor) {
+        this.surveyResultCache = surveyResultCache;
+        this.cacheRefreshExecutor = cacheRefreshExecutor;
+        this.questionRepository = questionRepository;
+        this.questionOptionRepository = questionOptionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // PostgreSQL only honours the fetch size with auto-commit disabled
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Returns the cube of the survey. A cube behind the current response version is returned as it is
+     * while a background build catches up, so it may miss the latest submissions for that long.
+     */
+    public SurveyResponseCube get(Long surveyId) {
+        SurveyResponseCube cube = cubes.getIfPresent(surveyId);
+        if (cube == null) {
+            try {
+                return build(surveyId, false).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        if (cube.getVersion() < surveyResultCache.currentVersion(surveyId)) {
+            build(surveyId, true);
+        }
+        return cube;
+    }
+
+    /**
+     * Appends a submission committed as the given response version. A cube that missed an earlier
+     * version is kept and rebuilt in the background.
+     */
+    public void append(Long surveyId, long version, Long userId, List<AnsweredQuestionDto> answers) {
+        SurveyResponseCube cube = cubes.getIfPresent(surveyId);
+        if (cube != null && !cube.append(version, userId, answers)) {
+            build(surveyId, true);
+        }
+    }
+
+    /**
+     * Starts building the cube of the survey unless a build of it is already running on this instance,
+     * and returns the running build. The built cube replaces a cached one unless that is newer.
+     */
+    private CompletableFuture<SurveyResponseCube> build(Long surveyId, boolean async) {
+        CompletableFuture<SurveyResponseCube> future = new CompletableFuture<>();
+        CompletableFuture<SurveyResponseCube> inFlightBuild = inFlightBuilds.putIfAbsent(surveyId, future);
+        if (inFlightBuild != null) {
+            return inFlightBuild;
+        }
+
+        Runnable task = () -> {
+            try {
+                SurveyResponseCube built = load(surveyId, surveyResultCache.currentVersion(surveyId));
+                future.complete(cubes.asMap().merge(surveyId, built, (existing, replacement) ->
+                    existing.getVersion() >= replacement.getVersion() ? existing : replacement));
+            } catch (Throwable e) {
+                if (async) {
+                    log.warn("Failed to rebuild response cube for survey ID: {}", surveyId, e);
+                }
+                future.completeExceptionally(e);
+            } finally {
+                inFlightBuilds.remove(surveyId, future);
+            }
+        };
+
+        if (!async) {
+            task.run();
+            return future;
+        }
+        try {
+            cacheRefreshExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // the cached cube is still served and the next read retries the build
+            inFlightBuilds.remove(surveyId, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private SurveyResponseCube load(Long surveyId, long version) {
+        List<SurveyQuestionBankDto> choiceQuestions = questionRepository.findQuestionBanksBySurveyId(surveyId)
+            .stream()
+            .filter(questionBank -> questionBank.getQuestionType() == QuestionType.SINGLE_CHOICE
+                || questionBank.getQuestionType() == QuestionType.MULTIPLE_CHOICES)
+            .collect(Collectors.toList());
+        Map<Long, List<QuestionOption>> optionsByQuestionBankId = questionOptionRepository.findAllBySurveyId(surveyId)
+            .stream()
+            .sorted(Comparator.comparing(QuestionOption::getQuestionOptionId))
+            .collect(Collectors.groupingBy(option -> option.getQuestionBank().getQuestionBankId(), HashMap::new,
+                Collectors.toList()));
+
+        int columnCount = choiceQuestions.size();
+        long[] questionBankIds = new long[columnCount];
+        long[][] optionIds = new long[columnCount][];
+        String[][] options = new String[columnCount][];
+        boolean[] multipleChoice = new boolean[columnCount];
+        for (int column = 0; column < columnCount; column++) {
+            SurveyQuestionBankDto questionBank = choiceQuestions.get(column);
+            List<QuestionOption> questionOptions = optionsByQuestionBankId.getOrDefault(
+                questionBank.getQuestionBankId(), new ArrayList<>());
+            questionBankIds[column] = questionBank.getQuestionBankId();
+            optionIds[column] = questionOptions.stream().mapToLong(QuestionOption::getQuestionOptionId).toArray();
+            options[column] = questionOptions.stream().map(QuestionOption::getOption).toArray(String[]::new);
+            multipleChoice[column] = questionBank.getQuestionType() == QuestionType.MULTIPLE_CHOICES;
+        }
+
+        SurveyResponseCube cube = new SurveyResponseCube(questionBankIds, optionIds, options, multipleChoice, version);
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(CHOICE_ANSWERS_QUERY,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, surveyId);
+            return statement;
+        }, rs -> {
+            long userId = rs.getLong("user_id");
+            long singleChoice = rs.getLong("single_choice");
+            if (!rs.wasNull()) {
+                cube.add(userId, singleChoice);
+                return;
+            }
+            cube.add(userId, rs.getLong("multiple_choices"));
+        }));
+        log.info("Built response cube for survey ID: {} with {} respondents at version {}", surveyId,
+            cube.getSize(), version);
+        return cube;
+    }
+}
@@ -0,0 +1,146 @@
+package com.thesurvey.api.cache;
+
+import com.thesurvey.api.dto.response.user.UserSurveyResultDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Caches the result of a survey together with the response version it was computed from.
+ * <p>
+ * Every submission bumps the response version of its survey after commit. A cached result is served
+ * while its version is current, or while it is younger than the staleness window, so that authors
+ * refreshing a live survey do not recompute it on every request. Otherwise the first reader recomputes
+ * it under a per-survey lock and concurrent readers wait for and reuse that result.
+ */
+@Slf4j
+@Component
+public class SurveyResultCache {
+
+    public static final String CACHE_NAME = "surveyResultCache";
+
+    private static final long ENTRY_IDLE_MINUTES = 30;
+
+    private static final long LOCK_LEASE_SECONDS = 30;
+
+    private final RedissonClient redissonClient;
+
+    private final RMapCache<Long, CachedSurveyResult> results;
+
+    private final Duration staleness;
+
+    private final Counter hitCounter;
+
+    private final Counter staleCounter;
+
+    private final Counter missCounter;
+
+    public SurveyResultCache(RedissonClient redissonClient, MeterRegistry meterRegistry,
+        @Value("${survey.result-cache.staleness:PT5S}") Duration staleness) {
+        this.redissonClient = redissonClient;
+        this.results = redissonClient.getMapCache(CACHE_NAME);
+        this.staleness = staleness;
+        this.hitCounter = resultCounter(meterRegistry, "hit");
+        this.staleCounter = resultCounter(meterRegistry, "stale");
+        this.missCounter = resultCounter(meterRegistry, "miss");
+    }
+
+    public UserSurveyResultDto get(Long surveyId, Supplier<UserSurveyResultDto> loader) {
+        CachedSurveyResult cached = results.get(surveyId);
+        long version = currentVersion(surveyId);
+        if (isUsable(cached, version)) {
+            return cached.getResult();
+        }
+
+        RLock lock = redissonClient.getLock(CACHE_NAME + ":lock:" + surveyId);
+        lock.lock(LOCK_LEASE_SECONDS, TimeUnit.SECONDS);
+        try {
+            // another reader may have recomputed the result while this one was waiting
+            cached = results.get(surveyId);
+            version = currentVersion(surveyId);
+            if (isUsable(cached, version)) {
+                return cached.getResult();
+            }
+            missCounter.increment();
+            UserSurveyResultDto result = loader.get();
+            results.fastPut(surveyId, new CachedSurveyResult(version, System.currentTimeMillis(), result),
+                0, TimeUnit.MINUTES, ENTRY_IDLE_MINUTES, TimeUnit.MINUTES);
+            return result;
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Bumps the response version of the survey once the surrounding transaction commits and passes the
+     * new version to {@code afterBump}, so that derived state can tell whether it missed a submission.
+     */
+    public void bumpVersion(Long surveyId, LongConsumer afterBump) {
+        TransactionalCacheEviction.runAfterCommit(() ->
+            afterBump.accept(redissonClient.getAtomicLong(versionKey(surveyId)).incrementAndGet()));
+    }
+
+    /**
+     * Drops the cached result and its version, for changes that must never be served stale.
+     */
+    public void evict(Long surveyId) {
+        TransactionalCacheEviction.runNowAndAfterCommit(() -> {
+            results.fastRemove(surveyId);
+            redissonClient.getAtomicLong(versionKey(surveyId)).incrementAndGet();
+        });
+    }
+
+    private boolean isUsable(CachedSurveyResult cached, long version) {
+        if (cached == null) {
+            return false;
+        }
+        if (cached.getVersion() == version) {
+            hitCounter.increment();
+            return true;
+        }
+        if (System.currentTimeMillis() - cached.getComputedAt() < staleness.toMillis()) {
+            staleCounter.increment();
+            return true;
+        }
+        return false;
+    }
+
+    public long currentVersion(Long surveyId) {
+        return redissonClient.getAtomicLong(versionKey(surveyId)).get();
+    }
+
+    private String versionKey(Long surveyId) {
+        return CACHE_NAME + ":version:" + surveyId;
+    }
+
+    private Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.survey.result")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static class CachedSurveyResult {
+
+        private final long version;
+
+        private final long computedAt;
+
+        private final UserSurveyResultDto result;
+    }
+}
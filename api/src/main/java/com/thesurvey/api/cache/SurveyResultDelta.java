@@ -0,0 +1,32 @@
+package com.thesurvey.api.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * Message published to every API node when a submission to a survey commits, carrying its response
+ * version and how much each chosen option's count grew.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SurveyResultDelta implements Serializable {
+
+    private Long surveyId;
+
+    private long version;
+
+    private long respondentDelta;
+
+    private Map<Long, Long> optionDeltas;
+
+    public SurveyResultDelta(Long surveyId, long version, long respondentDelta, Map<Long, Long> optionDeltas) {
+        this.surveyId = surveyId;
+        this.version = version;
+        this.respondentDelta = respondentDelta;
+        this.optionDeltas = optionDeltas;
+    }
+}
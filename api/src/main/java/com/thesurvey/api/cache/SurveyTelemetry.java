@@ -0,0 +1,175 @@
+package com.thesurvey.api.cache;
+
+import com.thesurvey.api.util.HistogramUtil;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregates the submissions of each survey in Redis as they happen, so that reading them never scans
+ * {@code participation}.
+ * <p>
+ * Submissions per minute are kept in a ring of {@value #RING_MINUTES} slots in one hash, each slot
+ * holding its minute and count, so a slot left over from an earlier lap is recognised and reset.
+ * Completion times, from the first time a respondent opened the survey to the submission, are counted
+ * in the log-linear buckets of {@link HistogramUtil}. All keys of a survey share a hash tag.
+ */
+@Component
+@RequiredArgsConstructor
+public class SurveyTelemetry {
+
+    public static final int RING_MINUTES = 24 * 60;
+
+    private static final String KEY_PREFIX = "surveyTelemetry:{";
+
+    private static final Duration STARTED_TTL = Duration.ofDays(1);
+
+    /**
+     * Bounds the completion histogram; longer completions are counted in the last bucket.
+     */
+    private static final long MAX_COMPLETION_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+    /**
+     * KEYS: rate ring, completion histogram, started marker. ARGV: minute, ring size, completion
+     * bucket or -1.
+     */
+    private static final String RECORD_SCRIPT =
+        "local slot = tonumber(ARGV[1]) % tonumber(ARGV[2]) "
+            + "if redis.call('HGET', KEYS[1], 'm:' .. slot) == ARGV[1] then "
+            + "redis.call('HINCRBY', KEYS[1], 'c:' .. slot, 1) "
+            + "else "
+            + "redis.call('HSET', KEYS[1], 'm:' .. slot, ARGV[1], 'c:' .. slot, 1) "
+            + "end "
+            + "if ARGV[3] ~= '-1' then "
+            + "redis.call('HINCRBY', KEYS[2], ARGV[3], 1) "
+            + "end "
+            + "redis.call('DEL', KEYS[3]) "
+            + "return 1";
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * Remembers when the user first opened the survey, unless already known.
+     */
+    public void markStarted(Long surveyId, Long userId) {
+        startedBucket(surveyId, userId).setIfAbsent(String.valueOf(System.currentTimeMillis()), STARTED_TTL);
+    }
+
+    /**
+     * @return when the user first opened the survey in epoch milliseconds, or {@code null} if unknown
+     */
+    public Long getStartedAt(Long surveyId, Long userId) {
+        String startedAt = startedBucket(surveyId, userId).get();
+        return startedAt == null ? null : Long.valueOf(startedAt);
+    }
+
+    /**
+     * Counts a submission once the surrounding transaction commits.
+     *
+     * @param startedAt when the respondent opened the survey, or {@code null} to skip the completion time
+     */
+    public void recordSubmission(Long surveyId, Long userId, long submittedAt, Long startedAt) {
+        String completionBucket = startedAt == null ? "-1" : String.valueOf(HistogramUtil.bucketIndex(
+            Math.min(TimeUnit.MILLISECONDS.toSeconds(Math.max(0, submittedAt - startedAt)), MAX_COMPLETION_SECONDS)));
+        String minute = String.valueOf(TimeUnit.MILLISECONDS.toMinutes(submittedAt));
+        TransactionalCacheEviction.runAfterCommit(() -> redissonClient.getScript(StringCodec.INSTANCE).eval(
+            RScript.Mode.READ_WRITE, RECORD_SCRIPT, RScript.ReturnType.INTEGER,
+            List.<Object>of(rateKey(surveyId), completionKey(surveyId), startedKey(surveyId, userId)),
+            minute, String.valueOf(RING_MINUTES), completionBucket));
+    }
+
+    /**
+     * @return the submission count of each of the last {@code minutes} minutes up to {@code now}, oldest first
+     */
+    public long[] getSubmissionsPerMinute(Long surveyId, long now, int minutes) {
+        Map<String, String> ring = redissonClient.<String, String>getMap(rateKey(surveyId), StringCodec.INSTANCE)
+            .readAllMap();
+        long currentMinute = TimeUnit.MILLISECONDS.toMinutes(now);
+        long[] counts = new long[minutes];
+        for (int i = 0; i < minutes; i++) {
+            long minute = currentMinute - minutes + 1 + i;
+            long slot = minute % RING_MINUTES;
+            if (String.valueOf(minute).equals(ring.get("m:" + slot))) {
+                counts[i] = Long.parseLong(ring.get("c:" + slot));
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * @return the completion time histogram as counts by bucket index, in bucket order
+     */
+    public CompletionHistogram getCompletionHistogram(Long surveyId) {
+        Map<String, String> buckets = redissonClient.<String, String>getMap(completionKey(surveyId), StringCodec.INSTANCE)
+            .readAllMap();
+        TreeMap<Integer, Long> counts = new TreeMap<>();
+        long total = 0;
+        for (Map.Entry<String, String> bucket : buckets.entrySet()) {
+            long count = Long.parseLong(bucket.getValue());
+            counts.put(Integer.valueOf(bucket.getKey()), count);
+            total += count;
+        }
+        return new CompletionHistogram(total, counts);
+    }
+
+    public void delete(Long surveyId) {
+        TransactionalCacheEviction.runAfterCommit(() ->
+            redissonClient.getKeys().delete(rateKey(surveyId), completionKey(surveyId)));
+    }
+
+    private RBucket<String> startedBucket(Long surveyId, Long userId) {
+        return redissonClient.getBucket(startedKey(surveyId, userId), StringCodec.INSTANCE);
+    }
+
+    private String rateKey(Long surveyId) {
+        return KEY_PREFIX + surveyId + "}:rate";
+    }
+
+    private String completionKey(Long surveyId) {
+        return KEY_PREFIX + surveyId + "}:completion";
+    }
+
+    private String startedKey(Long surveyId, Long userId) {
+        return KEY_PREFIX + surveyId + "}:started:" + userId;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class CompletionHistogram {
+
+        private final long totalCount;
+
+        /**
+         * Counts by bucket index of {@link HistogramUtil}, in ascending order.
+         */
+        private final TreeMap<Integer, Long> counts;
+
+        /**
+         * @return the upper bound of the bucket holding the given percentile, or {@code null} if empty
+         */
+        public Long percentile(double percentile) {
+            if (totalCount == 0) {
+                return null;
+            }
+            long rank = (long) Math.ceil(totalCount * percentile / 100);
+            long seen = 0;
+            for (Map.Entry<Integer, Long> bucket : counts.entrySet()) {
+                seen += bucket.getValue();
+                if (seen >= rank) {
+                    return HistogramUtil.bucketUpperBound(bucket.getKey());
+                }
+            }
+            return HistogramUtil.bucketUpperBound(counts.lastKey());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.thesurvey.api.cache;
+
+import com.thesurvey.api.domain.EnumTypeEntity.QuestionType;
+import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionDto;
+import com.thesurvey.api.util.KeywordUtil;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the most common keywords of the text answers of each question in Redis, in constant memory
+ * per question.
+ * <p>
+ * Each answer's keywords are counted in a Count-Min sketch of {@value #DEPTH} rows of {@value #WIDTH}
+ * saturating 32-bit counters, packed in one string and updated with {@code BITFIELD}. The estimated
+ * count of every counted keyword is then offered to a sorted set trimmed to {@value #CANDIDATES}
+ * entries, which acts as the min-heap of the top-k. Reading the summary is a single range read.
+ * Only submissions made after this was introduced are counted.
+ */
+@Component
+@RequiredArgsConstructor
+public class TextAnswerKeywordSketch {
+
+    public static final int DEPTH = 4;
+
+    public static final int WIDTH = 1024;
+
+    /**
+     * Keywords kept per question, more than are shown so that the shown ones are stable.
+     */
+    public static final int CANDIDATES = 50;
+
+    private static final String KEY_PREFIX = "textAnswerKeywords:{";
+
+    /**
+     * KEYS: sketch and top-k of each question, in pairs. ARGV: depth, candidates, then per question the
+     * keyword count followed by each keyword and its counter offsets.
+     */
+    private static final String RECORD_SCRIPT =
+        "local depth = tonumber(ARGV[1]) "
+            + "local candidates = tonumber(ARGV[2]) "
+            + "local arg = 3 "
+            + "for question = 1, #KEYS, 2 do "
+            + "local keywordCount = tonumber(ARGV[arg]) "
+            + "arg = arg + 1 "
+            + "for keyword = 1, keywordCount do "
+            + "local ops = {'OVERFLOW', 'SAT'} "
+            + "for row = 1, depth do "
+            + "table.insert(ops, 'INCRBY') table.insert(ops, 'u32') "
+            + "table.insert(ops, '#' .. ARGV[arg + row]) table.insert(ops, 1) "
+            + "end "
+            + "local counts = redis.call('BITFIELD', KEYS[question], unpack(ops)) "
+            + "local estimate = counts[1] "
+            + "for row = 2, depth do "
+            + "if counts[row] < estimate then estimate = counts[row] end "
+            + "end "
+            + "redis.call('ZADD', KEYS[question + 1], estimate, ARGV[arg]) "
+            + "if redis.call('ZCARD', KEYS[question + 1]) > candidates then "
+            + "redis.call('ZREMRANGEBYRANK', KEYS[question + 1], 0, 0) "
+            + "end "
+            + "arg = arg + depth + 1 "
+            + "end "
+            + "end "
+            + "return 1";
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * Counts the keywords of the text answers of a submission once the surrounding transaction commits.
+     */
+    public void record(Long surveyId, List<AnsweredQuestionDto> answers) {
+        List<Object> keys = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        args.add(String.valueOf(DEPTH));
+        args.add(String.valueOf(CANDIDATES));
+        for (AnsweredQuestionDto answer : answers) {
+            String text = answer.getQuestionType() == QuestionType.LONG_ANSWER ? answer.getLongAnswer()
+                : answer.getQuestionType() == QuestionType.SHORT_ANSWER ? answer.getShortAnswer() : null;
+            Set<String> keywords = KeywordUtil.extractKeywords(text);
+            if (keywords.isEmpty()) {
+                continue;
+            }
+            keys.add(sketchKey(surveyId, answer.getQuestionBankId()));
+            keys.add(topKey(surveyId, answer.getQuestionBankId()));
+            args.add(String.valueOf(keywords.size()));
+            for (String keyword : keywords) {
+                args.add(keyword);
+                for (int offset : KeywordUtil.sketchOffsets(keyword, DEPTH, WIDTH)) {
+                    args.add(String.valueOf(offset));
+                }
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        TransactionalCacheEviction.runAfterCommit(() -> redissonClient.getScript(StringCodec.INSTANCE).eval(
+            RScript.Mode.READ_WRITE, RECORD_SCRIPT, RScript.ReturnType.INTEGER, keys, args.toArray()));
+    }
+
+    /**
+     * @return up to {@code limit} keywords of the question with their estimated answer counts, most
+     * common first
+     */
+    public Map<String, Long> getTopKeywords(Long surveyId, Long questionBankId, int limit) {
+        Map<String, Long> topKeywords = new LinkedHashMap<>();
+        for (ScoredEntry<String> entry : redissonClient.<String>getScoredSortedSet(
+            topKey(surveyId, questionBankId), StringCodec.INSTANCE).entryRangeReversed(0, limit - 1)) {
+            topKeywords.put(entry.getValue(), entry.getScore().longValue());
+        }
+        return topKeywords;
+    }
+
+    public void delete(Long surveyId) {
+        TransactionalCacheEviction.runAfterCommit(() ->
+            redissonClient.getKeys().deleteByPattern(KEY_PREFIX + surveyId + "}:*"));
+    }
+
+    private String sketchKey(Long surveyId, Long questionBankId) {
+        return KEY_PREFIX + surveyId + "}:" + questionBankId + ":sketch";
+    }
+
+    private String topKey(Long surveyId, Long questionBankId) {
+        return KEY_PREFIX + surveyId + "}:" + questionBankId + ":top";
+    }
+}
@@ -0,0 +1,54 @@
+package com.thesurvey.api.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs cache evictions relative to the surrounding transaction.
+ */
+public class TransactionalCacheEviction {
+
+    /**
+     * Runs the eviction immediately and once more after the surrounding transaction commits, so
+     * an entry cached from the old state while the transaction was in flight is dropped as well.
+     */
+    public static void runNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            runAfterCommit(eviction);
+        }
+    }
+
+    /**
+     * Runs the task after the surrounding transaction commits, or immediately if there is none.
+     */
+    public static void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * Runs the task if the surrounding transaction rolls back, to undo what it did outside of it.
+     */
+    public static void runAfterRollback(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    task.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,209 @@
+package com.thesurvey.api.config;
+
+import com.thesurvey.api.cache.IdempotentResponse;
+import com.thesurvey.api.cache.IdempotentResponseStore;
+import com.thesurvey.api.exception.ErrorMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Makes survey creation and answer submission safe to retry with an {@code Idempotency-Key} header.
+ * <p>
+ * The first request with a key runs and its response is stored with a hash of the request, unless it
+ * failed, so that the client may correct it and retry. Later requests of the same user to the same path
+ * with the same key get the stored response replayed, without reaching the controller, provided their
+ * method and body hash the same; a key reused for a different request is refused with 422. A duplicate
+ * that arrives while the first is still running waits for it and then replays its response.
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final Set<String> IDEMPOTENT_PATHS = Set.of("/surveys", "/surveys/submit");
+
+    private final IdempotentResponseStore idempotentResponseStore;
+
+    public IdempotencyFilter(IdempotentResponseStore idempotentResponseStore) {
+        this.idempotentResponseStore = idempotentResponseStore;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+            || !IDEMPOTENT_PATHS.contains(request.getServletPath())
+            || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, ErrorMessage.INVALID_IDEMPOTENCY_KEY);
+            return;
+        }
+        String key = authentication.getName() + ":" + request.getServletPath() + ":" + idempotencyKey;
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String requestHash = hash(request.getMethod(), cachedRequest.body);
+
+        IdempotentResponse stored = idempotentResponseStore.get(key);
+        if (stored != null) {
+            replay(response, idempotencyKey, requestHash, stored);
+            return;
+        }
+
+        RLock lock = idempotentResponseStore.getLock(key);
+        try {
+            if (!lock.tryLock(idempotentResponseStore.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Request with idempotency key: {} is still in progress", idempotencyKey);
+                writeError(response, HttpStatus.CONFLICT, ErrorMessage.IDEMPOTENT_REQUEST_IN_PROGRESS);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException(e);
+        }
+        try {
+            // the request this one waited for may have stored its response meanwhile
+            stored = idempotentResponseStore.get(key);
+            if (stored != null) {
+                replay(response, idempotencyKey, requestHash, stored);
+                return;
+            }
+            ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+            chain.doFilter(cachedRequest, responseWrapper);
+            if (responseWrapper.getStatus() < HttpStatus.BAD_REQUEST.value()) {
+                idempotentResponseStore.put(key, new IdempotentResponse(requestHash, responseWrapper.getStatus(),
+                    responseWrapper.getContentType(), responseWrapper.getContentAsByteArray()));
+            }
+            responseWrapper.copyBodyToResponse();
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void replay(HttpServletResponse response, String idempotencyKey, String requestHash,
+        IdempotentResponse stored) throws IOException {
+        if (!requestHash.equals(stored.getRequestHash())) {
+            log.warn("Idempotency key: {} was reused for a different request", idempotencyKey);
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, ErrorMessage.IDEMPOTENCY_KEY_REUSED);
+            return;
+        }
+        log.info("Replaying the stored response to idempotency key: {}", idempotencyKey);
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    private static String hash(String method, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(method.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(body);
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, ErrorMessage errorMessage)
+        throws IOException {
+        response.setStatus(status.value());
+        response.setContentType("text/plain");
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(errorMessage.getMessage());
+    }
+
+    /**
+     * Reads the body up front so that it can be hashed, and serves it again to the controller.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = StreamUtils.copyToByteArray(request.getInputStream());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), encoding));
+        }
+    }
+}
@@ -1,5 +1,12 @@
 package com.thesurvey.api.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thesurvey.api.cache.CacheRefreshExecutor;
+import com.thesurvey.api.cache.NearCacheManager;
+import com.thesurvey.api.dto.response.survey.SurveyListPageDto;
+import com.thesurvey.api.dto.response.survey.SurveyPageDto;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
@@ -12,6 +19,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -39,12 +47,46 @@ public class RedissonConfig {
     }
 
     @Bean
-    CacheManager cacheManager(RedissonClient redissonClient) {
+    CacheManager cacheManager(RedissonClient redissonClient, CacheRefreshExecutor cacheRefreshExecutor,
+                              MeterRegistry meterRegistry) {
         Map<String, CacheConfig> config = new HashMap<>();
         config.put("surveyListCache", new CacheConfig(
                 TimeUnit.HOURS.toMillis(1), // TTL 1 hour
                 TimeUnit.MINUTES.toMillis(30) // Max idle time 30 minutes
         ));
-        return new RedissonSpringCacheManager(redissonClient, config);
+        config.put("surveyDetailCache", new CacheConfig(
+                TimeUnit.HOURS.toMillis(1), // TTL 1 hour
+                TimeUnit.MINUTES.toMillis(30) // Max idle time 30 minutes
+        ));
+
+        // in-process L1 in front of redis, invalidated across nodes through pub/sub
+        Map<String, Cache<Object, Object>> localCaches = new HashMap<>();
+        localCaches.put("surveyListCache", Caffeine.newBuilder()
+                .maximumWeight(8 * 1024 * 1024) // approximately 8MB of heap
+                .weigher(RedissonConfig::estimateSize)
+                .expireAfterWrite(1, TimeUnit.MINUTES) // bounds staleness if an invalidation is missed
+                .build());
+        return new NearCacheManager(new RedissonSpringCacheManager(redissonClient, config),
+                redissonClient, localCaches,
+                Duration.ofSeconds(30), // serve evicted or expired entries for 30 seconds while refreshing
+                cacheRefreshExecutor::execute, meterRegistry);
+    }
+
+    /**
+     * Roughly estimates the heap size of a cached value in bytes.
+     */
+    private static int estimateSize(Object key, Object value) {
+        if (!(value instanceof SurveyListPageDto)) {
+            return 1024;
+        }
+        int size = 128;
+        for (SurveyPageDto survey : ((SurveyListPageDto) value).getSurveys()) {
+            size += 256 + 2 * (lengthOf(survey.getTitle()) + lengthOf(survey.getDescription()));
+        }
+        return size;
+    }
+
+    private static int lengthOf(String value) {
+        return value == null ? 0 : value.length();
     }
 }
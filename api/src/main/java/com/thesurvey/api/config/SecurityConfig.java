@@ -1,6 +1,7 @@
 package com.thesurvey.api.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thesurvey.api.cache.IdempotentResponseStore;
 import com.thesurvey.api.exception.AuthenticationEntryPointHandler;
 import com.thesurvey.api.exception.ErrorMessage;
 import com.thesurvey.api.exception.mapper.NotFoundExceptionMapper;
@@ -20,6 +21,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.FilterSecurityInterceptor;
 import org.springframework.security.web.authentication.logout.LogoutSuccessHandler;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -42,6 +44,8 @@ public class SecurityConfig {
 
     private final ObjectMapper objectMapper;
 
+    private final IdempotentResponseStore idempotentResponseStore;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
@@ -62,6 +66,8 @@ public class SecurityConfig {
                 ).permitAll()
                 .antMatchers("/admin/**").hasAuthority("ADMIN")
                 .antMatchers(HttpMethod.GET, "/surveys").permitAll()
+                .antMatchers(HttpMethod.GET, "/surveys/search").permitAll()
+                .antMatchers(HttpMethod.GET, "/surveys/stream").permitAll()
                 .antMatchers("/surveys").authenticated()
                 .antMatchers("/surveys/**").authenticated()
                 .antMatchers("/users/**").authenticated()
@@ -70,6 +76,7 @@ public class SecurityConfig {
                 .and()
                 .formLogin().disable()
                 .addFilter(loginAuthenticationFilter)
+                .addFilterAfter(new IdempotencyFilter(idempotentResponseStore), FilterSecurityInterceptor.class)
                 .exceptionHandling().authenticationEntryPoint(new AuthenticationEntryPointHandler())
                 .and()
                 .logout()
@@ -98,7 +105,9 @@ public class SecurityConfig {
         config.setAllowedOriginPatterns(Collections.singletonList("*"));
         config.setAllowedMethods(Arrays.asList("GET", "POST", "OPTIONS", "DELETE", "PUT", "PATCH"));
         config.setAllowCredentials(true);
-        config.setAllowedHeaders(Arrays.asList("Cache-Control", "Content-Type"));
+        config.setAllowedHeaders(Arrays.asList("Cache-Control", "Content-Type", "If-None-Match",
+                IdempotencyFilter.IDEMPOTENCY_KEY_HEADER));
+        config.setExposedHeaders(Arrays.asList("ETag", "Retry-After", IdempotencyFilter.REPLAYED_HEADER));
 
         source.registerCorsConfiguration("/**", config);
         return source;
@@ -0,0 +1,54 @@
+package com.thesurvey.api.controller;
+
+import com.thesurvey.api.service.SurveyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "관리자", description = "Admin Controller")
+@RestController
+@RequestMapping("/admin")
+@Slf4j
+public class AdminController {
+
+    private final SurveyService surveyService;
+
+    public AdminController(SurveyService surveyService) {
+        this.surveyService = surveyService;
+    }
+
+    @Operation(summary = "설문조사 응답 집계 재계산", description = "설문조사의 선택 항목별 응답 수와 응답자 수를 저장된 응답으로부터 다시 계산합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "요청 성공"),
+            @ApiResponse(responseCode = "401", description = "사용자 인증 실패", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "요청한 리소스 찾을 수 없음", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @PostMapping("/surveys/{surveyId}/counters/rebuild")
+    public ResponseEntity<Void> rebuildResponseCounters(@PathVariable("surveyId") Long surveyId) {
+        log.info("Rebuilding response counters for survey ID: {}", surveyId);
+        surveyService.rebuildResponseCounters(surveyId);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
+    @Operation(summary = "설문조사 응답자 색인 재구성", description = "설문조사에 응답한 사용자 색인을 저장된 응답으로부터 다시 구성합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "요청 성공"),
+            @ApiResponse(responseCode = "401", description = "사용자 인증 실패", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "요청한 리소스 찾을 수 없음", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @PostMapping("/surveys/{surveyId}/participants/rebuild")
+    public ResponseEntity<Void> rebuildParticipationIndex(@PathVariable("surveyId") Long surveyId) {
+        log.info("Rebuilding participation index for survey ID: {}", surveyId);
+        surveyService.rebuildParticipationIndex(surveyId);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
@@ -1,26 +1,46 @@
 package com.thesurvey.api.controller;
 
+import com.thesurvey.api.config.IdempotencyFilter;
+import com.thesurvey.api.domain.EnumTypeEntity.CertificationType;
 import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionRequestDto;
+import com.thesurvey.api.dto.request.survey.SurveyFilterRequestDto;
 import com.thesurvey.api.dto.request.survey.SurveyRequestDto;
 import com.thesurvey.api.dto.request.survey.SurveyUpdateRequestDto;
 import com.thesurvey.api.dto.response.answeredQuestion.AnsweredQuestionRewardPointDto;
+import com.thesurvey.api.dto.response.survey.SurveyCursorPageDto;
 import com.thesurvey.api.dto.response.survey.SurveyListPageDto;
 import com.thesurvey.api.dto.response.survey.SurveyResponseDto;
 import com.thesurvey.api.service.AnsweredQuestionService;
+import com.thesurvey.api.service.SubmissionWriteBehindService;
+import com.thesurvey.api.service.SurveyCacheWarmer;
+import com.thesurvey.api.service.SurveySearchService;
 import com.thesurvey.api.service.SurveyService;
+import com.thesurvey.api.service.SurveyStreamService;
+import com.thesurvey.api.service.SurveyTelemetryService;
+import com.thesurvey.api.util.ETagUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 
 @Tag(name = "설문조사", description = "Survey Controller")
@@ -29,45 +49,150 @@ import javax.validation.Valid;
 @Slf4j
 public class SurveyController {
 
+    /**
+     * The survey list is identical for every caller, so shared caches may keep it briefly and
+     * revalidate with the ETag afterwards.
+     */
+    private static final CacheControl SURVEY_LIST_CACHE_CONTROL = CacheControl.maxAge(5, TimeUnit.SECONDS).cachePublic();
+
+    /**
+     * A survey is only served after per-user access checks, so it must be revalidated on every
+     * request and never stored by shared caches.
+     */
+    private static final CacheControl SURVEY_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
     private final SurveyService surveyService;
     private final AnsweredQuestionService answeredQuestionService;
+    private final SurveyCacheWarmer surveyCacheWarmer;
+    private final SurveySearchService surveySearchService;
+    private final SurveyStreamService surveyStreamService;
+    private final SurveyTelemetryService surveyTelemetryService;
+    private final SubmissionWriteBehindService submissionWriteBehindService;
 
-    public SurveyController(SurveyService surveyService, AnsweredQuestionService answeredQuestionService) {
+    public SurveyController(SurveyService surveyService, AnsweredQuestionService answeredQuestionService,
+                            SurveyCacheWarmer surveyCacheWarmer, SurveySearchService surveySearchService,
+                            SurveyStreamService surveyStreamService, SurveyTelemetryService surveyTelemetryService,
+                            SubmissionWriteBehindService submissionWriteBehindService) {
         this.surveyService = surveyService;
         this.answeredQuestionService = answeredQuestionService;
+        this.surveyCacheWarmer = surveyCacheWarmer;
+        this.surveySearchService = surveySearchService;
+        this.surveyStreamService = surveyStreamService;
+        this.surveyTelemetryService = surveyTelemetryService;
+        this.submissionWriteBehindService = submissionWriteBehindService;
     }
 
-    @Operation(summary = "페이지별 설문조사 조회", description = "모든 설문조사를 페이지별로 조회합니다.")
+    @Operation(summary = "페이지별 설문조사 조회", description = "모든 설문조사를 페이지별로 조회합니다. 필수인증, 포인트, 종료 기한으로 필터링할 수 있습니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "요청 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 사항 없음", content = @Content(schema = @Schema(hidden = true))),
             @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(hidden = true))),
             @ApiResponse(responseCode = "401", description = "사용자 인증 실패", content = @Content(schema = @Schema(hidden = true))),
             @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content(schema = @Schema(hidden = true))),
             @ApiResponse(responseCode = "404", description = "요청한 리소스 찾을 수 없음", content = @Content(schema = @Schema(hidden = true)))
     })
-    @GetMapping
+    @GetMapping(params = "!cursor")
     public ResponseEntity<SurveyListPageDto> getAllSurvey(
-            @Parameter(name = "페이지 번호", example = "1", description = "기본값인 1부터 시작합니다.") @RequestParam(name = "page", defaultValue = "1") int page) {
+            @Parameter(name = "페이지 번호", example = "1", description = "기본값인 1부터 시작합니다.") @RequestParam(name = "page", defaultValue = "1") int page,
+            @Parameter(name = "보유 인증", example = "KAKAO,NAVER", description = "필수인증이 모두 이 목록에 포함된 설문조사만 조회합니다.") @RequestParam(name = "certificationTypes", required = false) List<CertificationType> certificationTypes,
+            @Parameter(name = "최소 포인트", example = "1") @RequestParam(name = "minRewardPoints", required = false) Integer minRewardPoints,
+            @Parameter(name = "최대 포인트", example = "10") @RequestParam(name = "maxRewardPoints", required = false) Integer maxRewardPoints,
+            @Parameter(name = "종료 기한", example = "2030-12-12T00:00:00", description = "이 시각 이전에 종료되는 설문조사만 조회합니다.") @RequestParam(name = "endedBefore", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endedBefore,
+            @Parameter(hidden = true) @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SurveyFilterRequestDto filter = SurveyFilterRequestDto.builder()
+                .certificationTypes(certificationTypes)
+                .minRewardPoints(minRewardPoints)
+                .maxRewardPoints(maxRewardPoints)
+                .endedBefore(endedBefore)
+                .build();
+        if (!filter.isEmpty()) {
+            log.info("Fetching filtered surveys for page number: {}", page);
+            SurveyListPageDto filteredListPageDto = surveyService.getFilteredSurvey(page, filter);
+            log.info("Returning {} filtered surveys for page number: {}", filteredListPageDto.getSurveys().size(), page);
+            return ResponseEntity.ok().cacheControl(SURVEY_LIST_CACHE_CONTROL).body(filteredListPageDto);
+        }
+
         log.info("Fetching all surveys for page number: {}", page);
         SurveyListPageDto surveyListPageDto = surveyService.getAllSurvey(page);
+        surveyCacheWarmer.prefetchNextPage(page, surveyListPageDto.getTotalPages());
+        String eTag = ETagUtil.toETag(surveyListPageDto.getVersion());
+        if (ETagUtil.matches(ifNoneMatch, eTag)) {
+            log.info("Survey list page {} not modified", page);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(SURVEY_LIST_CACHE_CONTROL).build();
+        }
         log.info("Returning {} surveys for page number: {}", surveyListPageDto.getSurveys().size(), page);
-        return ResponseEntity.ok(surveyListPageDto);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(SURVEY_LIST_CACHE_CONTROL).body(surveyListPageDto);
+    }
+
+    @Operation(summary = "커서 기반 설문조사 조회", description = "커서를 사용하여 설문조사 목록을 조회합니다. 첫 페이지는 빈 커서로 요청합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @GetMapping(params = "cursor")
+    public ResponseEntity<SurveyCursorPageDto> getAllSurveyByCursor(
+            @Parameter(name = "커서", description = "이전 응답의 nextCursor 또는 prevCursor 입니다. 첫 페이지는 빈 값입니다.") @RequestParam(name = "cursor") String cursor,
+            @Parameter(name = "방향", example = "next", description = "next 는 이전에 생성된 설문조사, prev 는 이후에 생성된 설문조사를 조회합니다.") @RequestParam(name = "direction", defaultValue = "next") String direction) {
+        log.info("Fetching surveys by cursor: {}, direction: {}", cursor, direction);
+        SurveyCursorPageDto surveyCursorPageDto = surveyService.getAllSurveyByCursor(cursor, direction);
+        log.info("Returning {} surveys by cursor", surveyCursorPageDto.getSurveys().size());
+        return ResponseEntity.ok(surveyCursorPageDto);
+    }
+
+    @Operation(summary = "진행 중인 설문조사 스트리밍 조회", description = "진행 중인 모든 설문조사를 최신순으로 한 줄에 하나씩 NDJSON 형식으로 전송합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공")
+    })
+    @GetMapping("/stream")
+    public void streamActiveSurveys(@Parameter(hidden = true) HttpServletResponse response) throws IOException {
+        log.info("Streaming all active surveys");
+        response.setContentType(NDJSON_MEDIA_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        long written = surveyStreamService.writeActiveSurveys(response.getOutputStream());
+        log.info("Streamed {} active surveys", written);
+    }
+
+    @Operation(summary = "설문조사 검색", description = "설문조사 제목, 설명, 질문 제목에서 검색어를 포함하는 진행 중인 설문조사를 관련도 순으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @GetMapping("/search")
+    public ResponseEntity<SurveyCursorPageDto> searchSurveys(
+            @Parameter(name = "검색어", example = "카카오 만족도", description = "공백으로 구분된 모든 검색어를 포함하는 설문조사를 조회합니다.") @RequestParam(name = "q") String query,
+            @Parameter(name = "커서", description = "이전 응답의 nextCursor 입니다. 첫 페이지는 생략합니다.") @RequestParam(name = "cursor", required = false) String cursor) {
+        log.info("Searching surveys by query: {}, cursor: {}", query, cursor);
+        SurveyCursorPageDto surveyCursorPageDto = surveySearchService.searchSurveys(query, cursor);
+        log.info("Returning {} surveys for query: {}", surveyCursorPageDto.getSurveys().size(), query);
+        return ResponseEntity.ok(surveyCursorPageDto);
     }
 
     @Operation(summary = "개별 설문조사 조회", description = "파라미터로 전달 받은 ID에 해당하는 설문조사를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "요청 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 사항 없음", content = @Content(schema = @Schema(hidden = true))),
             @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(hidden = true))),
             @ApiResponse(responseCode = "401", description = "사용자 인증 실패", content = @Content(schema = @Schema(hidden = true))),
             @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content(schema = @Schema(hidden = true))),
             @ApiResponse(responseCode = "404", description = "요청한 리소스 찾을 수 없음", content = @Content(schema = @Schema(hidden = true)))
     })
     @GetMapping("/{surveyId}")
-    public ResponseEntity<SurveyResponseDto> getSurvey(@PathVariable Long surveyId) {
+    public ResponseEntity<SurveyResponseDto> getSurvey(
+            @PathVariable Long surveyId,
+            @Parameter(hidden = true) @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @Parameter(hidden = true) Authentication authentication) {
         log.info("Fetching survey with ID: {}", surveyId);
         SurveyResponseDto surveyResponseDto = surveyService.getSurveyBySurveyIdWithRelatedQuestion(surveyId);
+        surveyTelemetryService.markStarted(surveyId, authentication);
+        String eTag = ETagUtil.toETag(surveyResponseDto.getVersion());
+        if (ETagUtil.matches(ifNoneMatch, eTag)) {
+            log.info("Survey with ID: {} not modified", surveyId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(SURVEY_CACHE_CONTROL).build();
+        }
         log.info("Returning survey with ID: {}", surveyId);
-        return ResponseEntity.ok(surveyResponseDto);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(SURVEY_CACHE_CONTROL).body(surveyResponseDto);
     }
 
     @Operation(summary = "설문조사 생성", description = "새로운 설문조사를 생성합니다.")
@@ -79,6 +204,7 @@ public class SurveyController {
             @ApiResponse(responseCode = "404", description = "요청한 리소스 찾을 수 없음", content = @Content(schema = @Schema(hidden = true))),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류", content = @Content(schema = @Schema(hidden = true)))
     })
+    @Parameter(in = ParameterIn.HEADER, name = IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, description = "재시도해도 한 번만 처리되도록 요청마다 고유한 값을 보냅니다. 같은 값으로 재시도하면 처음 응답을 다시 받습니다.")
     @PostMapping
     public ResponseEntity<SurveyResponseDto> createSurvey(@Valid @RequestBody SurveyRequestDto surveyRequestDto) {
         log.info("Creating new survey with title: {}", surveyRequestDto.getTitle());
@@ -123,21 +249,28 @@ public class SurveyController {
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 
-    @Operation(summary = "설문조사 응답 제출", description = "설문조사 응답을 제출합니다.")
+    @Operation(summary = "설문조사 응답 제출", description = "설문조사 응답을 제출합니다. 비동기 제출 모드에서는 검증 후 응답을 접수하고 202 를 반환하며, 응답은 잠시 후 저장됩니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "요청 성공"),
+            @ApiResponse(responseCode = "202", description = "응답 접수"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(hidden = true))),
             @ApiResponse(responseCode = "401", description = "사용자 인증 실패", content = @Content(schema = @Schema(hidden = true))),
             @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content(schema = @Schema(hidden = true))),
-            @ApiResponse(responseCode = "404", description = "요청한 리소스 찾을 수 없음", content = @Content(schema = @Schema(hidden = true)))
+            @ApiResponse(responseCode = "404", description = "요청한 리소스 찾을 수 없음", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "503", description = "제출 대기열 가득 참, Retry-After 이후 재시도", content = @Content(schema = @Schema(hidden = true)))
     })
+    @Parameter(in = ParameterIn.HEADER, name = IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, description = "재시도해도 한 번만 처리되도록 요청마다 고유한 값을 보냅니다. 같은 값으로 재시도하면 처음 응답을 다시 받습니다.")
     @PostMapping("/submit")
     public ResponseEntity<AnsweredQuestionRewardPointDto> submitSurvey(
             @Valid @RequestBody AnsweredQuestionRequestDto answeredQuestionRequestDto) {
         log.info("Submitting survey answers for survey ID: {}", answeredQuestionRequestDto.getSurveyId());
+        if (submissionWriteBehindService.isEnabled()) {
+            AnsweredQuestionRewardPointDto rewardPointDto = submissionWriteBehindService.submit(answeredQuestionRequestDto);
+            log.info("Survey answers accepted with reward points: {}", rewardPointDto.getRewardPoints());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(rewardPointDto);
+        }
         AnsweredQuestionRewardPointDto rewardPointDto = answeredQuestionService.createAnswer(answeredQuestionRequestDto);
         log.info("Survey answers submitted with reward points: {}", rewardPointDto.getRewardPoints());
         return ResponseEntity.ok(rewardPointDto);
     }
-
 }
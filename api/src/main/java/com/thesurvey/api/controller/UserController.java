@@ -2,11 +2,19 @@ package com.thesurvey.api.controller;
 
 import com.thesurvey.api.dto.request.user.UserCertificationUpdateRequestDto;
 import com.thesurvey.api.dto.request.user.UserUpdateRequestDto;
+import com.thesurvey.api.dto.response.answeredQuestion.TextAnswerPageDto;
 import com.thesurvey.api.dto.response.user.UserResponseDto;
+import com.thesurvey.api.dto.response.user.UserSurveyCrossTabDto;
+import com.thesurvey.api.dto.response.user.UserSurveyTelemetryDto;
 import com.thesurvey.api.dto.response.user.UserSurveyResultDto;
 import com.thesurvey.api.dto.response.user.UserSurveyTitleDto;
 import com.thesurvey.api.dto.response.userCertification.UserCertificationListDto;
+import com.thesurvey.api.service.SurveyCrossTabService;
+import com.thesurvey.api.service.SurveyExportService;
+import com.thesurvey.api.service.SurveyLiveResultService;
 import com.thesurvey.api.service.SurveyService;
+import com.thesurvey.api.service.SurveyTelemetryService;
+import com.thesurvey.api.service.TextAnswerService;
 import com.thesurvey.api.service.UserCertificationService;
 import com.thesurvey.api.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,15 +25,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Tag(name = "사용자", description = "User Controller")
@@ -37,12 +51,28 @@ public class UserController {
     private final UserService userService;
     private final UserCertificationService userCertificationService;
     private final SurveyService surveyService;
+    private final TextAnswerService textAnswerService;
+    private final SurveyExportService surveyExportService;
+    private final SurveyCrossTabService surveyCrossTabService;
+    private final SurveyTelemetryService surveyTelemetryService;
+    private final SurveyLiveResultService surveyLiveResultService;
+
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    private static final String CSV_MEDIA_TYPE = "text/csv";
 
     public UserController(UserService userService,
-                          UserCertificationService userCertificationService, SurveyService surveyService) {
+                          UserCertificationService userCertificationService, SurveyService surveyService,
+                          TextAnswerService textAnswerService, SurveyExportService surveyExportService,
+                          SurveyCrossTabService surveyCrossTabService, SurveyTelemetryService surveyTelemetryService,
+                          SurveyLiveResultService surveyLiveResultService) {
         this.userService = userService;
         this.userCertificationService = userCertificationService;
         this.surveyService = surveyService;
+        this.textAnswerService = textAnswerService;
+        this.surveyExportService = surveyExportService;
+        this.surveyCrossTabService = surveyCrossTabService;
+        this.surveyTelemetryService = surveyTelemetryService;
+        this.surveyLiveResultService = surveyLiveResultService;
     }
 
     @Operation(summary = "사용자 정보 조회", description = "요청한 사용자의 정보를 가져옵니다.")
@@ -95,6 +125,124 @@ public class UserController {
         return ResponseEntity.ok(surveyResult);
     }
 
+    @Operation(summary = "설문조사 질문 응답 목록 조회", description = "사용자가 생성한 설문조사의 단답형 또는 장문형 질문에 대한 응답을 커서 기반으로 페이지 단위로 가져옵니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "401", description = "사용자 인증 실패", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "요청한 리소스 찾을 수 없음", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @GetMapping("/surveys/{surveyId}/questions/{questionBankId}/answers")
+    public ResponseEntity<TextAnswerPageDto> getTextAnswers(
+            @PathVariable("surveyId") Long surveyId,
+            @PathVariable("questionBankId") Long questionBankId,
+            @Parameter(name = "커서", description = "이전 응답의 nextCursor 입니다. 첫 페이지는 생략합니다.") @RequestParam(name = "cursor", required = false) Long cursor,
+            @Parameter(name = "크기", description = "페이지 크기입니다. 기본값은 50, 최대값은 100 입니다.") @RequestParam(name = "size", required = false) Integer size) {
+        log.info("Fetching text answers for survey ID: {}, question ID: {}, cursor: {}", surveyId, questionBankId, cursor);
+        TextAnswerPageDto textAnswerPage = textAnswerService.getTextAnswerPage(surveyId, questionBankId, cursor, size);
+        log.info("Returning {} text answers for question ID: {}", textAnswerPage.getAnswers().size(), questionBankId);
+        return ResponseEntity.ok(textAnswerPage);
+    }
+
+    @Operation(summary = "설문조사 질문 응답 스트리밍", description = "사용자가 생성한 설문조사의 단답형 또는 장문형 질문에 대한 모든 응답을 한 줄에 하나씩 JSON(NDJSON)으로 스트리밍합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "401", description = "사용자 인증 실패", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "요청한 리소스 찾을 수 없음", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @GetMapping("/surveys/{surveyId}/questions/{questionBankId}/answers/stream")
+    public void streamTextAnswers(
+            @PathVariable("surveyId") Long surveyId,
+            @PathVariable("questionBankId") Long questionBankId,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException {
+        log.info("Streaming text answers for survey ID: {}, question ID: {}", surveyId, questionBankId);
+        textAnswerService.validateTextQuestion(surveyId, questionBankId);
+        response.setContentType(NDJSON_MEDIA_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        long written = textAnswerService.writeTextAnswers(surveyId, questionBankId, response.getOutputStream());
+        log.info("Streamed {} text answers for question ID: {}", written, questionBankId);
+    }
+
+    @Operation(summary = "설문조사 응답 CSV 내보내기", description = "사용자가 생성한 설문조사의 모든 응답을 응답자별 한 행, 질문별 한 열의 CSV 파일로 내려받습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "401", description = "사용자 인증 실패", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "요청한 리소스 찾을 수 없음", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @GetMapping("/surveys/{surveyId}/export.csv")
+    public void exportSurveyResponses(
+            @PathVariable("surveyId") Long surveyId,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException {
+        log.info("Exporting responses for survey ID: {}", surveyId);
+        surveyService.validateSurveyResultAccess(surveyId);
+        response.setContentType(CSV_MEDIA_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("survey-" + surveyId + ".csv")
+                .build()
+                .toString());
+        long written = surveyExportService.writeSurveyResponses(surveyId, response.getOutputStream());
+        log.info("Exported {} respondents for survey ID: {}", written, surveyId);
+    }
+
+    @Operation(summary = "설문조사 교차 분석", description = "사용자가 생성한 설문조사의 객관식 질문들에 대해 선택 항목 조합별 응답자 수를 계산합니다. 질문을 하나만 지정하면 해당 질문의 응답 분포를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "401", description = "사용자 인증 실패", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "요청한 리소스 찾을 수 없음", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @GetMapping("/surveys/{surveyId}/crosstab")
+    public ResponseEntity<UserSurveyCrossTabDto> getSurveyCrossTab(
+            @PathVariable("surveyId") Long surveyId,
+            @Parameter(name = "질문", description = "교차 분석할 객관식 질문 아이디입니다. 최대 4개까지 지정할 수 있습니다.") @RequestParam(name = "questionBankIds") List<Long> questionBankIds,
+            @Parameter(name = "필터", description = "응답자를 필터링할 선택 항목 아이디입니다. 같은 질문의 항목은 하나 이상, 서로 다른 질문의 항목은 모두 만족해야 합니다.") @RequestParam(name = "filterOptionIds", required = false) List<Long> filterOptionIds) {
+        log.info("Computing cross-tab for survey ID: {}, questions: {}, filter: {}", surveyId, questionBankIds, filterOptionIds);
+        UserSurveyCrossTabDto crossTab = surveyCrossTabService.getCrossTab(surveyId, questionBankIds, filterOptionIds);
+        log.info("Returning {} cross-tab cells for survey ID: {}", crossTab.getCells().size(), surveyId);
+        return ResponseEntity.ok(crossTab);
+    }
+
+    @Operation(summary = "설문조사 응답 추이 조회", description = "사용자가 생성한 설문조사의 분 단위 응답 제출 수와 응답 소요 시간 분포를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "401", description = "사용자 인증 실패", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "요청한 리소스 찾을 수 없음", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @GetMapping("/surveys/{surveyId}/telemetry")
+    public ResponseEntity<UserSurveyTelemetryDto> getSurveyTelemetry(
+            @PathVariable("surveyId") Long surveyId,
+            @Parameter(name = "기간", description = "조회할 최근 기간(분)입니다. 기본값은 60, 최대값은 1440 입니다.") @RequestParam(name = "minutes", required = false) Integer minutes) {
+        log.info("Fetching telemetry for survey ID: {}, minutes: {}", surveyId, minutes);
+        UserSurveyTelemetryDto telemetry = surveyTelemetryService.getSurveyTelemetry(surveyId, minutes);
+        log.info("Returning telemetry for survey ID: {}", surveyId);
+        return ResponseEntity.ok(telemetry);
+    }
+
+    @Operation(summary = "설문조사 결과 실시간 구독", description = "설문조사 결과를 Server-Sent Events 로 구독합니다. "
+            + "처음에 현재 결과를 result 이벤트로 보내고, 이후 새로운 응답의 선택지별 증가량을 delta 이벤트로 모아서 보냅니다. "
+            + "result 와 delta 는 반영한 응답 버전(version)을 포함하며, 클라이언트는 이미 반영한 버전 이하의 delta 를 무시합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "401", description = "사용자 인증 실패", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "요청한 리소스 찾을 수 없음", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @GetMapping(value = "/surveys/{surveyId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getLiveSurveyResult(@PathVariable("surveyId") Long surveyId) {
+        log.info("Subscribing to live results for survey ID: {}", surveyId);
+        return surveyLiveResultService.subscribe(surveyId);
+    }
+
     @Operation(summary = "사용자 정보 수정", description = "요청한 사용자의 정보를 수정합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "요청 성공"),
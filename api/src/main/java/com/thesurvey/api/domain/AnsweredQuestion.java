@@ -9,13 +9,17 @@ import javax.persistence.*;
 import javax.validation.constraints.Size;
 
 @Entity
-@Table(name = "answered_question")
+@Table(name = "answered_question", indexes = {
+    @Index(name = "idx_answered_question_survey_id_question_bank_id", columnList = "survey_id, question_bank_id, answered_question_id"),
+    @Index(name = "idx_answered_question_survey_id_user_id", columnList = "survey_id, user_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AnsweredQuestion {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answered_question_seq")
+    @SequenceGenerator(name = "answered_question_seq", sequenceName = "answered_question_seq", allocationSize = 50)
     @Column(name = "answered_question_id", updatable = false, nullable = false)
     private Long answeredQuestionId;
 
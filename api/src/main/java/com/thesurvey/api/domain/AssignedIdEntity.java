@@ -0,0 +1,31 @@
+package com.thesurvey.api.domain;
+
+import javax.persistence.MappedSuperclass;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Transient;
+
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Base of the entities whose id is assigned rather than generated. It tracks whether the entity has
+ * been stored or loaded, so that saving a new one inserts it directly instead of first selecting it
+ * to merge.
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity<ID> implements Persistable<ID> {
+
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -10,12 +10,18 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
-@Table(name = "participation")
+@Table(name = "participation", indexes = {
+    @Index(name = "idx_participation_survey_id_user_id", columnList = "survey_id, user_id, certification_type")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Participation extends BaseTimeEntity {
+@EntityListeners(AuditingEntityListener.class)
+public class Participation extends AssignedIdEntity<ParticipationId> {
 
     @EmbeddedId
     @AttributeOverride(name = "certificationType", column = @Column(name = "certification_type", insertable = false, updatable = false))
@@ -29,6 +35,22 @@ public class Participation extends BaseTimeEntity {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime submittedDate;
 
+    // the audit columns of BaseTimeEntity, which an entity with an assigned id cannot extend as well
+    @CreatedDate
+    @Column(name = "created_date", nullable = false, updatable = false)
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdDate;
+
+    @LastModifiedDate
+    @Column(name = "modified_date", nullable = false)
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime modifiedDate;
+
+    @Override
+    public ParticipationId getId() {
+        return participationId;
+    }
+
     @Builder
     public Participation(Survey survey, User user,
         LocalDateTime participateDate, LocalDateTime submittedDate,
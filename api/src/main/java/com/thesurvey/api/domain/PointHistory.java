@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
 @Table(name = "point_history")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class PointHistory {
+public class PointHistory extends AssignedIdEntity<PointHistoryId> {
 
     @EmbeddedId
     @AttributeOverride(name = "transactionDate", column = @Column(name = "transaction_date"))
@@ -21,6 +21,11 @@ public class PointHistory {
     @Column(name = "operand_point")
     private Integer operandPoint;
 
+    @Override
+    public PointHistoryId getId() {
+        return pointHistoryId;
+    }
+
     @Builder
     public PointHistory(User user, LocalDateTime transactionDate, Integer operandPoint) {
         this.pointHistoryId = new PointHistoryId(transactionDate, user);
@@ -16,7 +16,7 @@ import java.util.Set;
 @Table(name = "question")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Question {
+public class Question extends AssignedIdEntity<QuestionId> {
 
     @EmbeddedId
     private QuestionId questionId;
@@ -33,6 +33,11 @@ public class Question {
     @Column(name = "is_required", nullable = false)
     private Boolean isRequired;
 
+    @Override
+    public QuestionId getId() {
+        return questionId;
+    }
+
     @Builder
     public Question(QuestionBank questionBank, Survey survey, Integer questionNo, Boolean isRequired) {
         this.questionNo = questionNo;
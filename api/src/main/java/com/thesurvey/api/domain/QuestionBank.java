@@ -12,6 +12,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
@@ -31,7 +32,8 @@ import lombok.NoArgsConstructor;
 public class QuestionBank extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "question_bank_seq")
+    @SequenceGenerator(name = "question_bank_seq", sequenceName = "question_bank_seq", allocationSize = 50)
     @Column(name = "question_bank_id")
     private Long questionBankId;
 
@@ -8,6 +8,7 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
@@ -27,7 +28,8 @@ import lombok.NoArgsConstructor;
 public class QuestionOption {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "question_option_seq")
+    @SequenceGenerator(name = "question_option_seq", sequenceName = "question_option_seq", allocationSize = 50)
     @Column(name = "question_option_id")
     private Long questionOptionId;
 
@@ -0,0 +1,31 @@
+package com.thesurvey.api.domain;
+
+import javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of answers that chose a question option of a survey. Rows are created for every option when
+ * the questions of a survey are saved and incremented in the transaction that submits the answers,
+ * so results are read in O(options) instead of aggregating {@link AnsweredQuestion}.
+ */
+@Entity
+@Table(name = "question_option_count")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QuestionOptionCount {
+
+    @EmbeddedId
+    private QuestionOptionCountId questionOptionCountId;
+
+    @Column(name = "question_bank_id", nullable = false)
+    private Long questionBankId;
+
+    @Column(name = "response_count", nullable = false)
+    private Long responseCount;
+}
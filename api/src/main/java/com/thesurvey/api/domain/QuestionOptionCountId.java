@@ -0,0 +1,47 @@
+package com.thesurvey.api.domain;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QuestionOptionCountId implements Serializable {
+
+    @Column(name = "survey_id", nullable = false)
+    private Long surveyId;
+
+    @Column(name = "question_option_id", nullable = false)
+    private Long questionOptionId;
+
+    @Builder
+    public QuestionOptionCountId(Long surveyId, Long questionOptionId) {
+        this.surveyId = surveyId;
+        this.questionOptionId = questionOptionId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        QuestionOptionCountId that = (QuestionOptionCountId) o;
+        return Objects.equals(surveyId, that.surveyId) && Objects.equals(questionOptionId, that.questionOptionId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(surveyId, questionOptionId);
+    }
+}
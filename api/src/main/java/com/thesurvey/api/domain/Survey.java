@@ -14,13 +14,19 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "survey")
+@Table(name = "survey", indexes = {
+    @Index(name = "idx_survey_created_date_survey_id", columnList = "created_date, survey_id"),
+    @Index(name = "idx_survey_ended_date", columnList = "ended_date"),
+    @Index(name = "idx_survey_reward_points_created_date", columnList = "reward_points, created_date, survey_id"),
+    @Index(name = "idx_survey_ended_date_created_date", columnList = "ended_date, created_date, survey_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Survey extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "survey_seq")
+    @SequenceGenerator(name = "survey_seq", sequenceName = "survey_seq", allocationSize = 50)
     @Column(name = "survey_id")
     private Long surveyId;
 
@@ -65,6 +71,21 @@ public class Survey extends BaseTimeEntity {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime endedDate;
 
+    /**
+     * Points a respondent gets for answering every question, kept in sync with the questions so the
+     * list can be filtered by it.
+     */
+    @NotNull
+    @Column(name = "reward_points", nullable = false)
+    private Integer rewardPoints;
+
+    /**
+     * Title, description and question titles joined for full-text search. The database derives the
+     * indexed {@code search_vector} column from it.
+     */
+    @Column(name = "search_text", columnDefinition = "TEXT")
+    private String searchText;
+
     @Builder
     public Survey(Long authorId, String title, List<Question> questions,
         List<Participation> participations, String description, LocalDateTime startedDate,
@@ -76,6 +97,7 @@ public class Survey extends BaseTimeEntity {
         this.description = description;
         this.startedDate = startedDate;
         this.endedDate = endedDate;
+        this.rewardPoints = 0;
     }
 
     public void changeTitle(String title) {
@@ -92,6 +114,14 @@ public class Survey extends BaseTimeEntity {
         this.description = description;
     }
 
+    public void changeRewardPoints(Integer rewardPoints) {
+        this.rewardPoints = rewardPoints;
+    }
+
+    public void changeSearchText(String searchText) {
+        this.searchText = searchText;
+    }
+
     public void changeStartedDate(LocalDateTime startedDate) {
         this.startedDate = startedDate;
     }
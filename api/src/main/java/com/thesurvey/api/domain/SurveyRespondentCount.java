@@ -0,0 +1,27 @@
+package com.thesurvey.api.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of users who submitted answers to a survey, maintained like {@link QuestionOptionCount}.
+ */
+@Entity
+@Table(name = "survey_respondent_count")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SurveyRespondentCount {
+
+    @Id
+    @Column(name = "survey_id")
+    private Long surveyId;
+
+    @Column(name = "respondent_count", nullable = false)
+    private Long respondentCount;
+}
@@ -0,0 +1,25 @@
+package com.thesurvey.api.dto.projection;
+
+import lombok.Getter;
+
+/**
+ * Projection of the number of answers that chose a question option.
+ */
+@Getter
+public class QuestionOptionCountDto {
+
+    private final Long questionBankId;
+
+    private final Long questionOptionId;
+
+    private final String option;
+
+    private final Long responseCount;
+
+    public QuestionOptionCountDto(Long questionBankId, Long questionOptionId, String option, Long responseCount) {
+        this.questionBankId = questionBankId;
+        this.questionOptionId = questionOptionId;
+        this.option = option;
+        this.responseCount = responseCount;
+    }
+}
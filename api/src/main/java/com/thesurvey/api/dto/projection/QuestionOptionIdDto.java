@@ -0,0 +1,19 @@
+package com.thesurvey.api.dto.projection;
+
+import lombok.Getter;
+
+/**
+ * Projection of a question option id together with its question bank id.
+ */
+@Getter
+public class QuestionOptionIdDto {
+
+    private final Long questionBankId;
+
+    private final Long questionOptionId;
+
+    public QuestionOptionIdDto(Long questionBankId, Long questionOptionId) {
+        this.questionBankId = questionBankId;
+        this.questionOptionId = questionOptionId;
+    }
+}
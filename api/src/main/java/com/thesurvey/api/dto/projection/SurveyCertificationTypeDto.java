@@ -0,0 +1,20 @@
+package com.thesurvey.api.dto.projection;
+
+import com.thesurvey.api.domain.EnumTypeEntity.CertificationType;
+import lombok.Getter;
+
+/**
+ * Projection of a certification type required by a survey.
+ */
+@Getter
+public class SurveyCertificationTypeDto {
+
+    private final Long surveyId;
+
+    private final CertificationType certificationType;
+
+    public SurveyCertificationTypeDto(Long surveyId, CertificationType certificationType) {
+        this.surveyId = surveyId;
+        this.certificationType = certificationType;
+    }
+}
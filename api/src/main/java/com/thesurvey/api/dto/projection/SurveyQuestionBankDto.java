@@ -0,0 +1,30 @@
+package com.thesurvey.api.dto.projection;
+
+import com.thesurvey.api.domain.EnumTypeEntity.QuestionType;
+import lombok.Getter;
+
+/**
+ * Projection of a question bank together with its number in a survey.
+ */
+@Getter
+public class SurveyQuestionBankDto {
+
+    private final Long questionBankId;
+
+    private final String title;
+
+    private final String description;
+
+    private final QuestionType questionType;
+
+    private final Integer questionNo;
+
+    public SurveyQuestionBankDto(Long questionBankId, String title, String description,
+        QuestionType questionType, Integer questionNo) {
+        this.questionBankId = questionBankId;
+        this.title = title;
+        this.description = description;
+        this.questionType = questionType;
+        this.questionNo = questionNo;
+    }
+}
@@ -0,0 +1,23 @@
+package com.thesurvey.api.dto.projection;
+
+import com.thesurvey.api.domain.EnumTypeEntity.QuestionType;
+import lombok.Getter;
+
+/**
+ * Projection of what an answer to a question of a survey is checked against.
+ */
+@Getter
+public class SurveyQuestionRuleDto {
+
+    private final Long questionBankId;
+
+    private final QuestionType questionType;
+
+    private final Boolean isRequired;
+
+    public SurveyQuestionRuleDto(Long questionBankId, QuestionType questionType, Boolean isRequired) {
+        this.questionBankId = questionBankId;
+        this.questionType = questionType;
+        this.isRequired = isRequired;
+    }
+}
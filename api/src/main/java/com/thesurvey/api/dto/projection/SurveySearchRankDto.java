@@ -0,0 +1,11 @@
+package com.thesurvey.api.dto.projection;
+
+/**
+ * A full-text search hit: the matching survey and its rank for the query.
+ */
+public interface SurveySearchRankDto {
+
+    Long getSurveyId();
+
+    Float getSearchRank();
+}
@@ -0,0 +1,19 @@
+package com.thesurvey.api.dto.projection;
+
+import lombok.Getter;
+
+/**
+ * Projection of the number of text answers to a question.
+ */
+@Getter
+public class TextAnswerCountDto {
+
+    private final Long questionBankId;
+
+    private final Long answerCount;
+
+    public TextAnswerCountDto(Long questionBankId, Long answerCount) {
+        this.questionBankId = questionBankId;
+        this.answerCount = answerCount;
+    }
+}
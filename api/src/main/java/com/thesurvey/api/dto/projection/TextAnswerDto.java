@@ -0,0 +1,19 @@
+package com.thesurvey.api.dto.projection;
+
+/**
+ * Projection of a short or long answer to a question.
+ */
+public interface TextAnswerDto {
+
+    Long getQuestionBankId();
+
+    Long getAnsweredQuestionId();
+
+    String getShortAnswer();
+
+    String getLongAnswer();
+
+    default String getAnswer() {
+        return getShortAnswer() != null ? getShortAnswer() : getLongAnswer();
+    }
+}
@@ -0,0 +1,31 @@
+package com.thesurvey.api.dto.request.survey;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.thesurvey.api.domain.EnumTypeEntity.CertificationType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SurveyFilterRequestDto {
+
+    @Schema(example = "[\"KAKAO\"]", description = "응답자가 보유한 인증 목록입니다. 필수인증이 모두 이 목록에 포함된 설문조사만 조회합니다. 빈 목록이면 필수인증이 없는 설문조사만 조회합니다.")
+    private List<CertificationType> certificationTypes;
+
+    @Schema(example = "1", description = "설문조사 완료시 획득할 수 있는 최소 포인트입니다.")
+    private Integer minRewardPoints;
+
+    @Schema(example = "10", description = "설문조사 완료시 획득할 수 있는 최대 포인트입니다.")
+    private Integer maxRewardPoints;
+
+    @Schema(example = "2030-12-12T00:00:00", description = "이 시각 이전에 종료되는 설문조사만 조회합니다.")
+    private LocalDateTime endedBefore;
+
+    public boolean isEmpty() {
+        return certificationTypes == null && minRewardPoints == null && maxRewardPoints == null
+            && endedBefore == null;
+    }
+}
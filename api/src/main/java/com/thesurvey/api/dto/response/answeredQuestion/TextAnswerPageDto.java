@@ -0,0 +1,18 @@
+package com.thesurvey.api.dto.response.answeredQuestion;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TextAnswerPageDto {
+
+    private List<TextAnswerResponseDto> answers;
+
+    @Schema(example = "20", description = "다음 페이지를 조회하기 위한 커서입니다. 마지막 페이지인 경우 null 입니다.")
+    private Long nextCursor;
+
+}
@@ -0,0 +1,17 @@
+package com.thesurvey.api.dto.response.answeredQuestion;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TextAnswerResponseDto {
+
+    @Schema(example = "1", description = "응답 아이디입니다. 다음 페이지 조회시 커서로 사용됩니다.")
+    private Long answeredQuestionId;
+
+    @Schema(example = "편리합니다", description = "단답형 또는 장문형 응답 내용입니다.")
+    private String answer;
+
+}
@@ -26,9 +26,18 @@ public class QuestionBankAnswerDto {
     @Schema(example = "1", description = "각 질문의 순서를 결정하는 번호로, 양수여야 합니다.")
     private Integer questionNo;
 
-    @Schema(example = "[\"편리합니다\", \"좋아요!\"]", description = "주관식 답변 모음입니다.")
+    @Schema(example = "[\"편리합니다\", \"좋아요!\"]", description = "주관식 답변 중 먼저 제출된 일부입니다. 나머지는 주관식 답변 조회 API로 조회합니다.")
     List<String> textAnswers;
 
+    @Schema(example = "120", description = "주관식 답변의 총 개수입니다.")
+    private Long textAnswerCount;
+
+    @Schema(example = "20", description = "나머지 주관식 답변을 조회하기 위한 커서입니다. 모든 답변이 포함된 경우 null 입니다.")
+    private Long nextTextAnswerCursor;
+
+    @Schema(description = "주관식 답변에 가장 많이 등장한 키워드와 추정 답변 수입니다. 많이 등장한 순서로 정렬됩니다.")
+    private List<TextAnswerKeywordDto> topKeywords;
+
     List<QuestionOptionAnswerDto> optionAnswers;
 
 }
@@ -0,0 +1,17 @@
+package com.thesurvey.api.dto.response.question;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TextAnswerKeywordDto {
+
+    @Schema(example = "배송 속도", description = "주관식 답변에 자주 등장한 단어 또는 두 단어로 된 구절입니다.")
+    private String keyword;
+
+    @Schema(example = "42", description = "키워드가 포함된 답변 수의 추정치입니다. 실제보다 작게 추정되지 않습니다.")
+    private Long estimatedCount;
+
+}
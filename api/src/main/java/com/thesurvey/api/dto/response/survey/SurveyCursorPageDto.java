@@ -0,0 +1,21 @@
+package com.thesurvey.api.dto.response.survey;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SurveyCursorPageDto {
+
+    List<SurveyPageDto> surveys;
+
+    @Schema(example = "MjAyMy0wNC0yMlQwMDowMDowMHwx", description = "다음 페이지를 조회하기 위한 커서입니다. 다음 페이지가 없으면 null 입니다.")
+    String nextCursor;
+
+    @Schema(example = "MjAyMy0wNC0yMlQwMDowMDowMHw4", description = "이전 페이지를 조회하기 위한 커서입니다. 이전 페이지가 없으면 null 입니다.")
+    String prevCursor;
+
+}
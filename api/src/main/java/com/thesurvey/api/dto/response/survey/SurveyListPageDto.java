@@ -2,12 +2,13 @@ package com.thesurvey.api.dto.response.survey;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class SurveyListPageDto {
 
     List<SurveyPageDto> surveys;
@@ -21,5 +22,11 @@ public class SurveyListPageDto {
     @Schema(example = "10", description = "조회된 모든 설문조사의 페이지 수 입니다.")
     Integer totalPages;
 
-}
+    /**
+     * Version of this representation, stamped when it is assembled and used as the ETag.
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    String version;
 
+}
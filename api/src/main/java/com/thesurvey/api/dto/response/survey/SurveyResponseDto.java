@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.thesurvey.api.domain.EnumTypeEntity.CertificationType;
 import com.thesurvey.api.dto.response.question.QuestionBankResponseDto;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -50,4 +51,11 @@ public class SurveyResponseDto {
     @Schema(example = "1", description = "설문조사 완료시 획득할 수 있는 포인트입니다.")
     private Integer rewardPoints;
 
+    /**
+     * Version of this representation, stamped when it is assembled and used as the ETag.
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private String version;
+
 }
@@ -0,0 +1,20 @@
+package com.thesurvey.api.dto.response.user;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CompletionTimeBucketDto {
+
+    @Schema(example = "96", description = "구간에 포함되는 가장 짧은 응답 소요 시간(초)입니다.")
+    private Long lowerBoundSeconds;
+
+    @Schema(example = "103", description = "구간에 포함되는 가장 긴 응답 소요 시간(초)입니다.")
+    private Long upperBoundSeconds;
+
+    @Schema(example = "5", description = "해당 구간의 응답 수입니다.")
+    private Long count;
+
+}
@@ -0,0 +1,23 @@
+package com.thesurvey.api.dto.response.user;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CrossTabCellDto {
+
+    @Schema(example = "[1, 5]", description = "요청한 질문 순서대로 각 질문에서 선택된 선택 항목의 아이디입니다.")
+    private List<Long> questionOptionIds;
+
+    @Schema(example = "[\"예\", \"매일\"]", description = "요청한 질문 순서대로 각 질문에서 선택된 선택 항목의 내용입니다.")
+    private List<String> options;
+
+    @Schema(example = "3", description = "해당 선택 항목 조합을 선택한 응답자 수입니다.")
+    private Long responseCount;
+
+}
@@ -0,0 +1,17 @@
+package com.thesurvey.api.dto.response.user;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class OptionCountDeltaDto {
+
+    @Schema(example = "1", description = "선택 항목의 아이디입니다.")
+    private Long questionOptionId;
+
+    @Schema(example = "2", description = "직전 전송 이후 늘어난 응답 수입니다.")
+    private Long delta;
+
+}
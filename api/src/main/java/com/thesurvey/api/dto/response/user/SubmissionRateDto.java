@@ -0,0 +1,21 @@
+package com.thesurvey.api.dto.response.user;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SubmissionRateDto {
+
+    @Schema(example = "2023-04-22T10:15:00", description = "집계 구간이 시작하는 분입니다.")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime minute;
+
+    @Schema(example = "3", description = "해당 분 동안 제출된 응답 수입니다.")
+    private Long submissionCount;
+
+}
@@ -0,0 +1,26 @@
+package com.thesurvey.api.dto.response.user;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SurveyResultDeltaDto {
+
+    @Schema(example = "1", description = "설문조사 아이디입니다.")
+    private Long surveyId;
+
+    @Schema(example = "12", description = "이 변경분까지 반영한 응답 버전입니다. 이미 반영한 버전 이하의 변경분은 무시합니다.")
+    private Long version;
+
+    @Schema(example = "3", description = "직전 전송 이후 늘어난 응답자 수입니다.")
+    private Long respondentDelta;
+
+    @Schema(description = "직전 전송 이후 응답 수가 늘어난 선택 항목입니다.")
+    private List<OptionCountDeltaDto> optionDeltas;
+
+}
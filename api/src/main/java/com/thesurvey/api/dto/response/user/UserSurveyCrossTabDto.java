@@ -0,0 +1,26 @@
+package com.thesurvey.api.dto.response.user;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class UserSurveyCrossTabDto {
+
+    @Schema(example = "1", description = "조회된 설문조사 아이디입니다.")
+    private Long surveyId;
+
+    @Schema(example = "[1, 3]", description = "교차 분석한 질문 아이디입니다.")
+    private List<Long> questionBankIds;
+
+    @Schema(example = "10", description = "필터 조건을 만족하는 응답자 수입니다.")
+    private Long respondentCount;
+
+    @Schema(description = "응답 수가 0보다 큰 선택 항목 조합입니다.")
+    private List<CrossTabCellDto> cells;
+
+}
@@ -9,7 +9,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class UserSurveyResultDto {
 
     @Schema(example = "1", description = "조회된 설문조사 아이디입니다.")
@@ -18,6 +18,12 @@ public class UserSurveyResultDto {
     @Schema(example = "카카오 사용자분들께 설문 부탁드립니다!", description = "조회된 설문조사의 제목입니다.")
     private String surveyTitle;
 
+    @Schema(example = "10", description = "설문조사에 응답한 사용자 수입니다.")
+    private Long respondentCount;
+
+    @Schema(example = "10", description = "결과에 반영된 응답 버전입니다. 실시간 결과 구독의 첫 결과에만 포함됩니다.")
+    private Long version;
+
     private List<QuestionBankAnswerDto> results;
 
 }
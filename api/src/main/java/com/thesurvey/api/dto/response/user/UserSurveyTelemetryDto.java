@@ -0,0 +1,35 @@
+package com.thesurvey.api.dto.response.user;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class UserSurveyTelemetryDto {
+
+    @Schema(example = "1", description = "조회된 설문조사 아이디입니다.")
+    private Long surveyId;
+
+    @Schema(description = "최근 분 단위 응답 제출 수입니다. 오래된 순서로 정렬됩니다.")
+    private List<SubmissionRateDto> submissionsPerMinute;
+
+    @Schema(example = "42", description = "응답 소요 시간이 집계된 응답 수입니다.")
+    private Long completionCount;
+
+    @Schema(example = "111", description = "응답 소요 시간의 중앙값(초)입니다. 집계된 응답이 없으면 null 입니다.")
+    private Long completionP50Seconds;
+
+    @Schema(example = "287", description = "응답 소요 시간의 90번째 백분위수(초)입니다.")
+    private Long completionP90Seconds;
+
+    @Schema(example = "639", description = "응답 소요 시간의 99번째 백분위수(초)입니다.")
+    private Long completionP99Seconds;
+
+    @Schema(description = "응답 소요 시간 분포입니다. 응답이 있는 구간만 포함됩니다.")
+    private List<CompletionTimeBucketDto> completionTimeBuckets;
+
+}
@@ -24,14 +24,23 @@ public enum ErrorMessage {
     NO_ONLY_WHITESPACE("공백만 입력할 수 없습니다."),
     CREATOR_CANNOT_ANSWER("설문조사 작성자는 자신의 설문조사에 응답할 수 없습니다."),
     NOT_SURVEY_QUESTION("해당 설문조사의 질문이 아닙니다."),
+    NOT_QUESTION_OPTION("해당 질문의 선택 항목이 아닙니다."),
+    QUESTION_REQUIRED_MISMATCH("질문의 필수 응답 여부가 일치하지 않습니다."),
     INVALID_REQUEST("유효하지 않은 요청입니다"),
     PAGE_NOT_FOUND("존재하지 않는 페이지입니다."),
+    INVALID_CURSOR("유효하지 않은 페이지 커서입니다."),
+    INVALID_SEARCH_QUERY("검색어를 입력해주세요."),
     CERTIFICATION_NOT_COMPLETED("설문조사에 필요한 인증을 하지 않았습니다."),
     SURVEY_CREATE_POINT_NOT_ENOUGH("설문조사 생성에 필요한 포인트가 부족합니다."),
     INVALID_QUESTION_TYPE("유효하지 않은 질문 유형 입니다."),
+    CROSS_TAB_TOO_LARGE("교차 분석은 질문 {0}개, 선택 항목 조합 {1}개까지 가능합니다."),
     ANSWER_AT_LEAST_ONE_QUESTION("적어도 하나 이상의 질문에 답변을 해야합니다."),
     USER_CREATE_SURVEY_RECENT("최근에 이미 설문조사를 생성했습니다. 잠시 후 다시 시도해 주세요."),
-    LOCK_TIMEOUT("지금은 요청을 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    LOCK_TIMEOUT("지금은 요청을 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    SUBMISSION_QUEUE_FULL("제출 요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    INVALID_IDEMPOTENCY_KEY("Idempotency-Key 는 1 자 이상 255 자 이하여야 합니다."),
+    IDEMPOTENT_REQUEST_IN_PROGRESS("같은 Idempotency-Key 의 요청을 처리하고 있습니다. 잠시 후 다시 시도해 주세요."),
+    IDEMPOTENCY_KEY_REUSED("Idempotency-Key 가 다른 내용의 요청에 이미 사용되었습니다.");
 
     private final String message;
 
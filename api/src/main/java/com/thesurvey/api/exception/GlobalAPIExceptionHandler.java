@@ -2,6 +2,7 @@ package com.thesurvey.api.exception;
 
 import com.thesurvey.api.exception.mapper.*;
 import org.postgresql.util.PSQLException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -107,5 +108,16 @@ public class GlobalAPIExceptionHandler {
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error.getMessage());
     }
 
+    /**
+     * Handles the exception thrown by ServiceUnavailableException. thrown when the server sheds
+     * load, and tells the client when to retry.
+     */
+    @ExceptionHandler(ServiceUnavailableExceptionMapper.class)
+    public ResponseEntity<String> handleServiceUnavailableException(ServiceUnavailableExceptionMapper error) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(error.getRetryAfterSeconds()))
+            .body(error.getMessage());
+    }
+
 }
 
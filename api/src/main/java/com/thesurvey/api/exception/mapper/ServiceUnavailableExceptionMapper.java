@@ -0,0 +1,16 @@
+package com.thesurvey.api.exception.mapper;
+
+import com.thesurvey.api.exception.ErrorMessage;
+import lombok.Getter;
+
+@Getter
+public class ServiceUnavailableExceptionMapper extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableExceptionMapper(ErrorMessage errorMessage, long retryAfterSeconds) {
+        super(errorMessage.getMessage());
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
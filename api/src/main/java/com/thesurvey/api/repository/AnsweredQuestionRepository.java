@@ -1,10 +1,15 @@
 package com.thesurvey.api.repository;
 
 import com.thesurvey.api.domain.AnsweredQuestion;
+import com.thesurvey.api.dto.projection.TextAnswerCountDto;
+import com.thesurvey.api.dto.projection.TextAnswerDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -19,10 +24,39 @@ public interface AnsweredQuestionRepository extends
     @Query("SELECT CASE WHEN COUNT(aq) > 0 THEN true ELSE false END FROM AnsweredQuestion aq WHERE aq.user.userId = :userId AND aq.question.questionId.survey.surveyId = :surveyId")
     boolean existsByUserIdAndSurveyId(Long userId, Long surveyId);
 
-    @Query("SELECT aq.singleChoice, COUNT(aq) FROM AnsweredQuestion aq WHERE aq.question.questionId.questionBank.questionBankId = :questionBankId GROUP BY aq.singleChoice")
-    List<Long[]> countSingleChoiceByQuestionBankId(Long questionBankId);
-
-    @Query("SELECT aq.multipleChoice, COUNT(aq) FROM AnsweredQuestion aq WHERE aq.question.questionId.questionBank.questionBankId = :questionBankId GROUP BY aq.multipleChoice")
-    List<Long[]> countMultipleChoiceByQuestionBankId(Long questionBankId);
+    @Query("SELECT DISTINCT aq.user.userId FROM AnsweredQuestion aq WHERE aq.question.questionId.survey.surveyId = :surveyId")
+    List<Long> findUserIdsBySurveyId(@Param("surveyId") Long surveyId);
+
+    @Query("SELECT new com.thesurvey.api.dto.projection.TextAnswerCountDto(aq.question.questionId.questionBank.questionBankId, COUNT(aq)) "
+        + "FROM AnsweredQuestion aq WHERE aq.question.questionId.survey.surveyId = :surveyId "
+        + "AND aq.question.questionId.questionBank.questionBankId IN :questionBankIds "
+        + "AND (aq.shortAnswer IS NOT NULL OR aq.longAnswer IS NOT NULL) "
+        + "GROUP BY aq.question.questionId.questionBank.questionBankId")
+    List<TextAnswerCountDto> countTextAnswersBySurveyId(@Param("surveyId") Long surveyId,
+        @Param("questionBankIds") Collection<Long> questionBankIds);
+
+    /**
+     * Returns at most {@code limit} of the oldest text answers of each given question.
+     */
+    @Query(value = "SELECT t.question_bank_id AS \"questionBankId\", t.answered_question_id AS \"answeredQuestionId\", "
+        + "t.short_answer AS \"shortAnswer\", t.long_answer AS \"longAnswer\" "
+        + "FROM (SELECT aq.question_bank_id, aq.answered_question_id, aq.short_answer, aq.long_answer, "
+        + "ROW_NUMBER() OVER (PARTITION BY aq.question_bank_id ORDER BY aq.answered_question_id) AS answer_no "
+        + "FROM answered_question aq WHERE aq.survey_id = :surveyId AND aq.question_bank_id IN (:questionBankIds) "
+        + "AND (aq.short_answer IS NOT NULL OR aq.long_answer IS NOT NULL)) t "
+        + "WHERE t.answer_no <= :limit ORDER BY t.question_bank_id, t.answered_question_id", nativeQuery = true)
+    List<TextAnswerDto> findFirstTextAnswersBySurveyId(@Param("surveyId") Long surveyId,
+        @Param("questionBankIds") Collection<Long> questionBankIds, @Param("limit") int limit);
+
+    /**
+     * Keyset page of the text answers to a question, oldest first.
+     */
+    @Query("SELECT aq.question.questionId.questionBank.questionBankId AS questionBankId, aq.answeredQuestionId AS answeredQuestionId, "
+        + "aq.shortAnswer AS shortAnswer, aq.longAnswer AS longAnswer "
+        + "FROM AnsweredQuestion aq WHERE aq.question.questionId.survey.surveyId = :surveyId "
+        + "AND aq.question.questionId.questionBank.questionBankId = :questionBankId AND aq.answeredQuestionId > :cursor "
+        + "AND (aq.shortAnswer IS NOT NULL OR aq.longAnswer IS NOT NULL) ORDER BY aq.answeredQuestionId ASC")
+    List<TextAnswerDto> findTextAnswersAfterCursor(@Param("surveyId") Long surveyId,
+        @Param("questionBankId") Long questionBankId, @Param("cursor") Long cursor, Pageable pageable);
 
 }
@@ -0,0 +1,64 @@
+package com.thesurvey.api.repository;
+
+import com.thesurvey.api.domain.QuestionOptionCount;
+import com.thesurvey.api.domain.QuestionOptionCountId;
+import com.thesurvey.api.dto.projection.QuestionOptionCountDto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface QuestionOptionCountRepository extends JpaRepository<QuestionOptionCount, QuestionOptionCountId> {
+
+    /**
+     * Options nobody chose are not returned, matching the result of aggregating the answers.
+     */
+    @Query("SELECT new com.thesurvey.api.dto.projection.QuestionOptionCountDto(c.questionBankId, qo.questionOptionId, qo.option, c.responseCount) "
+        + "FROM QuestionOptionCount c, QuestionOption qo WHERE c.questionOptionCountId.surveyId = :surveyId "
+        + "AND qo.questionOptionId = c.questionOptionCountId.questionOptionId AND c.responseCount > 0 "
+        + "ORDER BY qo.questionOptionId ASC")
+    List<QuestionOptionCountDto> findOptionCountsBySurveyId(@Param("surveyId") Long surveyId);
+
+    @Modifying
+    @Query("UPDATE QuestionOptionCount c SET c.responseCount = c.responseCount + :delta "
+        + "WHERE c.questionOptionCountId.surveyId = :surveyId AND c.questionOptionCountId.questionOptionId IN :questionOptionIds")
+    int increment(@Param("surveyId") Long surveyId, @Param("questionOptionIds") Collection<Long> questionOptionIds,
+        @Param("delta") long delta);
+
+    /**
+     * Recounts the existing counters of a survey from its answers. Together with
+     * {@link #insertMissingFromAnswers} and {@link #deleteRemovedOptions} it upserts the counters when
+     * the questions are saved and to repair them.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE question_option_count c SET response_count = "
+        + "(SELECT COUNT(*) FROM answered_question aq WHERE aq.survey_id = c.survey_id "
+        + "AND (aq.single_choice = c.question_option_id OR aq.multiple_choices = c.question_option_id)) "
+        + "WHERE c.survey_id = :surveyId", nativeQuery = true)
+    int updateFromAnswers(@Param("surveyId") Long surveyId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO question_option_count (survey_id, question_option_id, question_bank_id, response_count) "
+        + "SELECT q.survey_id, qo.question_option_id, qo.question_bank_id, "
+        + "(SELECT COUNT(*) FROM answered_question aq WHERE aq.survey_id = q.survey_id "
+        + "AND (aq.single_choice = qo.question_option_id OR aq.multiple_choices = qo.question_option_id)) "
+        + "FROM question q JOIN question_option qo ON qo.question_bank_id = q.question_bank_id "
+        + "WHERE q.survey_id = :surveyId AND NOT EXISTS (SELECT 1 FROM question_option_count c "
+        + "WHERE c.survey_id = q.survey_id AND c.question_option_id = qo.question_option_id)", nativeQuery = true)
+    int insertMissingFromAnswers(@Param("surveyId") Long surveyId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM question_option_count WHERE survey_id = :surveyId AND question_option_id NOT IN "
+        + "(SELECT qo.question_option_id FROM question q JOIN question_option qo ON qo.question_bank_id = q.question_bank_id "
+        + "WHERE q.survey_id = :surveyId)", nativeQuery = true)
+    int deleteRemovedOptions(@Param("surveyId") Long surveyId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM QuestionOptionCount c WHERE c.questionOptionCountId.surveyId = :surveyId")
+    void deleteBySurveyId(@Param("surveyId") Long surveyId);
+}
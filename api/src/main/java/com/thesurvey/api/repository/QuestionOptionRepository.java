@@ -4,9 +4,11 @@ import java.util.List;
 import java.util.Optional;
 
 import com.thesurvey.api.domain.QuestionOption;
+import com.thesurvey.api.dto.projection.QuestionOptionIdDto;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -21,4 +23,11 @@ public interface QuestionOptionRepository extends JpaRepository<QuestionOption,
 
     @Query("SELECT qo FROM QuestionOption qo WHERE qo.questionBank.questionBankId = :questionBankId")
     List<QuestionOption> findAllByQuestionBankId(Long questionBankId);
+
+    @Query("SELECT qo FROM QuestionOption qo, Question q WHERE q.questionId.questionBank = qo.questionBank AND q.questionId.survey.surveyId = :surveyId")
+    List<QuestionOption> findAllBySurveyId(Long surveyId);
+
+    @Query("SELECT new com.thesurvey.api.dto.projection.QuestionOptionIdDto(qo.questionBank.questionBankId, qo.questionOptionId) "
+        + "FROM QuestionOption qo, Question q WHERE q.questionId.questionBank = qo.questionBank AND q.questionId.survey.surveyId = :surveyId")
+    List<QuestionOptionIdDto> findOptionIdsBySurveyId(@Param("surveyId") Long surveyId);
 }
@@ -2,9 +2,12 @@ package com.thesurvey.api.repository;
 
 import com.thesurvey.api.domain.Question;
 import com.thesurvey.api.domain.QuestionId;
+import com.thesurvey.api.dto.projection.SurveyQuestionBankDto;
+import com.thesurvey.api.dto.projection.SurveyQuestionRuleDto;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -25,6 +28,15 @@ public interface QuestionRepository extends JpaRepository<Question, QuestionId>
     @Query("SELECT q.isRequired FROM Question q WHERE q.questionId.questionBank.questionBankId = :questionBankId")
     Optional<Boolean> findIsRequiredByQuestionBankId(Long questionBankId);
 
+
+    @Query("SELECT new com.thesurvey.api.dto.projection.SurveyQuestionBankDto(qb.questionBankId, qb.title, qb.description, qb.questionType, q.questionNo) "
+        + "FROM Question q JOIN q.questionId.questionBank qb WHERE q.questionId.survey.surveyId = :surveyId ORDER BY q.questionNo ASC")
+    List<SurveyQuestionBankDto> findQuestionBanksBySurveyId(@Param("surveyId") Long surveyId);
+
+    @Query("SELECT new com.thesurvey.api.dto.projection.SurveyQuestionRuleDto(qb.questionBankId, qb.questionType, q.isRequired) "
+        + "FROM Question q JOIN q.questionId.questionBank qb WHERE q.questionId.survey.surveyId = :surveyId")
+    List<SurveyQuestionRuleDto> findQuestionRulesBySurveyId(@Param("surveyId") Long surveyId);
+
     @Modifying
     @Query("DELETE FROM Question q WHERE q.questionId.survey.surveyId = :surveyId")
     void deleteBySurveyId(Long surveyId);
@@ -1,27 +1,85 @@
 package com.thesurvey.api.repository;
 
+import com.thesurvey.api.domain.EnumTypeEntity.CertificationType;
 import com.thesurvey.api.domain.Survey;
+import com.thesurvey.api.dto.projection.SurveyCertificationTypeDto;
+import com.thesurvey.api.dto.projection.SurveySearchRankDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface SurveyRepository extends JpaRepository<Survey, Long> {
+public interface SurveyRepository extends JpaRepository<Survey, Long>, JpaSpecificationExecutor<Survey> {
 
-    @Query("SELECT s FROM Survey s WHERE s.endedDate > CURRENT_TIMESTAMP ORDER BY s.createdDate DESC")
+    @Query("SELECT s FROM Survey s WHERE s.endedDate > CURRENT_TIMESTAMP ORDER BY s.createdDate DESC, s.surveyId DESC")
     Page<Survey> findAllInDescendingOrder(Pageable pageable);
 
+    @Query("SELECT COUNT(s) FROM Survey s WHERE s.endedDate > CURRENT_TIMESTAMP "
+        + "AND (s.createdDate > :createdDate OR (s.createdDate = :createdDate AND s.surveyId > :surveyId))")
+    long countActiveSurveysNewerThan(@Param("createdDate") LocalDateTime createdDate, @Param("surveyId") Long surveyId);
+
+    @Query("SELECT s FROM Survey s WHERE s.endedDate > CURRENT_TIMESTAMP ORDER BY s.createdDate DESC, s.surveyId DESC")
+    List<Survey> findFirstInDescendingOrder(Pageable pageable);
+
+    /**
+     * Keyset query for the surveys created before the given cursor. {@code s.createdDate <= :createdDate}
+     * bounds the index range so the scan starts at the cursor instead of skipping previous rows.
+     */
+    @Query("SELECT s FROM Survey s WHERE s.endedDate > CURRENT_TIMESTAMP AND s.createdDate <= :createdDate "
+        + "AND (s.createdDate < :createdDate OR s.surveyId < :surveyId) ORDER BY s.createdDate DESC, s.surveyId DESC")
+    List<Survey> findAllBeforeCursor(@Param("createdDate") LocalDateTime createdDate,
+        @Param("surveyId") Long surveyId, Pageable pageable);
+
+    /**
+     * Keyset query for the surveys created after the given cursor, in ascending order.
+     * The caller reverses the result to keep the list newest-first.
+     */
+    @Query("SELECT s FROM Survey s WHERE s.endedDate > CURRENT_TIMESTAMP AND s.createdDate >= :createdDate "
+        + "AND (s.createdDate > :createdDate OR s.surveyId > :surveyId) ORDER BY s.createdDate ASC, s.surveyId ASC")
+    List<Survey> findAllAfterCursor(@Param("createdDate") LocalDateTime createdDate,
+        @Param("surveyId") Long surveyId, Pageable pageable);
+
     @Query("SELECT p.participationId.certificationType FROM Participation p WHERE p.participationId.survey.surveyId = :surveyId AND p.participationId.user.userId = :authorId")
     List<Integer> findCertificationTypeBySurveyIdAndAuthorId(@Param("surveyId") Long surveyId, @Param("authorId") Long authorId);
 
+    @Query("SELECT new com.thesurvey.api.dto.projection.SurveyCertificationTypeDto(s.surveyId, p.participationId.certificationType) "
+        + "FROM Participation p JOIN p.participationId.survey s WHERE s.surveyId IN :surveyIds AND p.participationId.user.userId = s.authorId")
+    List<SurveyCertificationTypeDto> findCertificationTypesBySurveyIds(@Param("surveyIds") Collection<Long> surveyIds);
+
+    /**
+     * Ranks active surveys matching a {@code to_tsquery('simple', ...)} expression through the GIN index
+     * on {@code search_vector}. PostgreSQL only; the column and index are created by
+     * {@code db/survey-search.sql}.
+     */
+    @Query(value = "SELECT s.survey_id AS \"surveyId\", ts_rank_cd(s.search_vector, q.query) AS \"searchRank\" "
+        + "FROM survey s, to_tsquery('simple', :query) AS q(query) "
+        + "WHERE s.search_vector @@ q.query AND s.ended_date > CURRENT_TIMESTAMP "
+        + "ORDER BY \"searchRank\" DESC, s.survey_id DESC LIMIT :limit", nativeQuery = true)
+    List<SurveySearchRankDto> searchFirst(@Param("query") String query, @Param("limit") int limit);
+
+    @Query(value = "SELECT s.survey_id AS \"surveyId\", ts_rank_cd(s.search_vector, q.query) AS \"searchRank\" "
+        + "FROM survey s, to_tsquery('simple', :query) AS q(query) "
+        + "WHERE s.search_vector @@ q.query AND s.ended_date > CURRENT_TIMESTAMP "
+        + "AND (ts_rank_cd(s.search_vector, q.query) < :rank "
+        + "OR (ts_rank_cd(s.search_vector, q.query) = :rank AND s.survey_id < :surveyId)) "
+        + "ORDER BY \"searchRank\" DESC, s.survey_id DESC LIMIT :limit", nativeQuery = true)
+    List<SurveySearchRankDto> searchAfterCursor(@Param("query") String query, @Param("rank") float rank,
+        @Param("surveyId") Long surveyId, @Param("limit") int limit);
+
     Optional<Survey> findBySurveyId(Long surveyId);
 
+    @Query("SELECT s FROM Survey s WHERE s.endedDate > :from AND s.endedDate <= :to")
+    List<Survey> findAllEndedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
     @Query("SELECT s FROM Survey s WHERE s.authorId = :authorId ORDER BY s.createdDate DESC")
     List<Survey> findUserCreatedSurveysByAuthorID(@Param("authorId") Long authorId);
 
@@ -0,0 +1,48 @@
+package com.thesurvey.api.repository;
+
+import com.thesurvey.api.domain.SurveyRespondentCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+@Repository
+public interface SurveyRespondentCountRepository extends JpaRepository<SurveyRespondentCount, Long> {
+
+    @Query("SELECT c.respondentCount FROM SurveyRespondentCount c WHERE c.surveyId = :surveyId")
+    Optional<Long> findRespondentCountBySurveyId(@Param("surveyId") Long surveyId);
+
+    /**
+     * Locks the respondent count of the survey, which serialises the submissions of a survey against
+     * rebuilds of its counters.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM SurveyRespondentCount c WHERE c.surveyId = :surveyId")
+    Optional<SurveyRespondentCount> lockBySurveyId(@Param("surveyId") Long surveyId);
+
+    @Modifying
+    @Query("UPDATE SurveyRespondentCount c SET c.respondentCount = c.respondentCount + 1 WHERE c.surveyId = :surveyId")
+    int increment(@Param("surveyId") Long surveyId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO survey_respondent_count (survey_id, respondent_count) "
+        + "SELECT s.survey_id, 0 FROM survey s WHERE s.survey_id = :surveyId "
+        + "AND NOT EXISTS (SELECT 1 FROM survey_respondent_count c WHERE c.survey_id = s.survey_id)",
+        nativeQuery = true)
+    int insertIfMissing(@Param("surveyId") Long surveyId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE survey_respondent_count SET respondent_count = "
+        + "(SELECT COUNT(DISTINCT aq.user_id) FROM answered_question aq WHERE aq.survey_id = :surveyId) "
+        + "WHERE survey_id = :surveyId", nativeQuery = true)
+    int updateFromAnswers(@Param("surveyId") Long surveyId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM SurveyRespondentCount c WHERE c.surveyId = :surveyId")
+    void deleteBySurveyId(@Param("surveyId") Long surveyId);
+}
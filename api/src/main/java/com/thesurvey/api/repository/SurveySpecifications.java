@@ -0,0 +1,53 @@
+package com.thesurvey.api.repository;
+
+import com.thesurvey.api.domain.EnumTypeEntity.CertificationType;
+import com.thesurvey.api.domain.Participation;
+import com.thesurvey.api.domain.ParticipationId;
+import com.thesurvey.api.domain.Survey;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Filters of the survey list. Only the filters a request sets are combined into its query, so a
+ * filter left out never reaches the SQL as an {@code (:x IS NULL OR ...)} predicate that keeps a
+ * cached generic plan from using the index of the filtered column.
+ */
+public class SurveySpecifications {
+
+    public static Specification<Survey> endedAfter(LocalDateTime dateTime) {
+        return (root, query, builder) -> builder.greaterThan(root.<LocalDateTime>get("endedDate"), dateTime);
+    }
+
+    public static Specification<Survey> endedBefore(LocalDateTime dateTime) {
+        return (root, query, builder) -> builder.lessThan(root.<LocalDateTime>get("endedDate"), dateTime);
+    }
+
+    public static Specification<Survey> rewardPointsAtLeast(int rewardPoints) {
+        return (root, query, builder) -> builder.greaterThanOrEqualTo(root.<Integer>get("rewardPoints"), rewardPoints);
+    }
+
+    public static Specification<Survey> rewardPointsAtMost(int rewardPoints) {
+        return (root, query, builder) -> builder.lessThanOrEqualTo(root.<Integer>get("rewardPoints"), rewardPoints);
+    }
+
+    /**
+     * Surveys whose author required no certification outside {@code certificationTypes}.
+     */
+    public static Specification<Survey> certifiedWithin(Collection<CertificationType> certificationTypes) {
+        return (root, query, builder) -> {
+            Subquery<Participation> subquery = query.subquery(Participation.class);
+            Root<Participation> participation = subquery.from(Participation.class);
+            Path<ParticipationId> participationId = participation.get("participationId");
+            subquery.select(participation).where(
+                builder.equal(participationId.get("survey"), root),
+                builder.equal(participationId.get("user").get("userId"), root.get("authorId")),
+                builder.not(participationId.get("certificationType").in(certificationTypes)));
+            return builder.not(builder.exists(subquery));
+        };
+    }
+}
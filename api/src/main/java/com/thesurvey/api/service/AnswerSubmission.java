@@ -0,0 +1,34 @@
+package com.thesurvey.api.service;
+
+import com.thesurvey.api.domain.Survey;
+import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * A validated submission of answers, holding everything needed to write it without the request.
+ */
+@Getter
+@Builder
+public class AnswerSubmission {
+
+    private final Long userId;
+
+    private final Survey survey;
+
+    private final List<Integer> surveyCertificationList;
+
+    private final List<AnsweredQuestionDto> answers;
+
+    private final int rewardPoints;
+
+    private final long submittedAt;
+
+    private final Long startedAt;
+
+    public Long getSurveyId() {
+        return survey.getSurveyId();
+    }
+}
@@ -1,34 +1,55 @@
 package com.thesurvey.api.service;
 
+import com.thesurvey.api.cache.SurveyAnswerPlan;
+import com.thesurvey.api.cache.SurveyAnswerPlan.QuestionPlan;
+import com.thesurvey.api.cache.SurveyAnswerPlanCache;
+import com.thesurvey.api.cache.SurveyLiveResultBroadcaster;
+import com.thesurvey.api.cache.SurveyParticipationIndex;
+import com.thesurvey.api.cache.SurveyResponseCubeCache;
+import com.thesurvey.api.cache.SurveyResultCache;
+import com.thesurvey.api.cache.SurveyTelemetry;
+import com.thesurvey.api.cache.TextAnswerKeywordSketch;
+import com.thesurvey.api.cache.TransactionalCacheEviction;
 import com.thesurvey.api.domain.*;
 import com.thesurvey.api.domain.EnumTypeEntity.CertificationType;
+import com.thesurvey.api.domain.EnumTypeEntity.QuestionType;
 import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionDto;
 import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionRequestDto;
 import com.thesurvey.api.dto.response.answeredQuestion.AnsweredQuestionRewardPointDto;
 import com.thesurvey.api.exception.ErrorMessage;
 import com.thesurvey.api.exception.mapper.BadRequestExceptionMapper;
+import com.thesurvey.api.exception.mapper.ForbiddenRequestExceptionMapper;
 import com.thesurvey.api.exception.mapper.NotFoundExceptionMapper;
 import com.thesurvey.api.exception.mapper.UnauthorizedRequestExceptionMapper;
 import com.thesurvey.api.repository.*;
 import com.thesurvey.api.service.command.AnsweredQuestionCreateCommands.SaveParticipationCommand;
 import com.thesurvey.api.service.command.AnsweredQuestionCreateCommands.SavePointHistoryCommand;
+import com.thesurvey.api.service.command.AnsweredQuestionCreateCommands.ValidateUserCertificationCommand;
 import com.thesurvey.api.service.command.Command;
 import com.thesurvey.api.service.command.CommandExecutor;
 import com.thesurvey.api.service.command.SurveyCreateCommands.UpdateUserPointsCommand;
 import com.thesurvey.api.service.mapper.AnsweredQuestionMapper;
+import com.thesurvey.api.util.PersistenceExceptionUtil;
 import com.thesurvey.api.util.PointUtil;
 import com.thesurvey.api.util.StringUtil;
 import com.thesurvey.api.util.UserUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -45,6 +66,14 @@ public class AnsweredQuestionService {
     private final AnsweredQuestionMapper answeredQuestionMapper;
     private final QuestionRepository questionRepository;
     private final QuestionBankRepository questionBankRepository;
+    private final SurveyResponseCounterService surveyResponseCounterService;
+    private final SurveyResultCache surveyResultCache;
+    private final SurveyResponseCubeCache surveyResponseCubeCache;
+    private final SurveyTelemetry surveyTelemetry;
+    private final SurveyLiveResultBroadcaster surveyLiveResultBroadcaster;
+    private final TextAnswerKeywordSketch textAnswerKeywordSketch;
+    private final SurveyAnswerPlanCache surveyAnswerPlanCache;
+    private final SurveyParticipationIndex surveyParticipationIndex;
 
     @Transactional
     public List<AnsweredQuestion> getAnswerQuestionByQuestionBankId(Long questionBankId) {
@@ -52,18 +81,6 @@ public class AnsweredQuestionService {
         return answeredQuestionRepository.findAllByQuestionBankId(questionBankId);
     }
 
-    @Transactional(readOnly = true)
-    public List<Long[]> getSingleChoiceResult(Long questionBankId) {
-        log.info("Fetching single choice results for question bank ID: {}", questionBankId);
-        return answeredQuestionRepository.countSingleChoiceByQuestionBankId(questionBankId);
-    }
-
-    @Transactional(readOnly = true)
-    public List<Long[]> getMultipleChoiceResult(Long questionBankId) {
-        log.info("Fetching multiple choice results for question bank ID: {}", questionBankId);
-        return answeredQuestionRepository.countMultipleChoiceByQuestionBankId(questionBankId);
-    }
-
     @Transactional
     public AnsweredQuestionRewardPointDto createAnswer(AnsweredQuestionRequestDto answeredQuestionRequestDto) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -75,21 +92,67 @@ public class AnsweredQuestionService {
                 .orElseThrow(() -> new NotFoundExceptionMapper(ErrorMessage.SURVEY_NOT_FOUND));
         List<Integer> surveyCertificationList = surveyRepository.findCertificationTypeBySurveyIdAndAuthorId(survey.getSurveyId(), survey.getAuthorId());
 
-        // Execute validation and fetch rewardPoints
-        int rewardPoints = saveAnsweredQuestion(answeredQuestionRequestDto, survey, user);
+        AtomicBoolean duplicate = new AtomicBoolean();
+        AnswerSubmission submission = toAnswerSubmission(answeredQuestionRequestDto, survey, user, surveyCertificationList, duplicate);
+        try {
+            saveAnswerSubmission(submission, survey, user);
+            answeredQuestionRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (!PersistenceExceptionUtil.isDuplicateParticipation(e)) {
+                throw e;
+            }
+            // got past the index, for example while it was rebuilt; the mark belongs to the stored answers
+            duplicate.set(true);
+            log.warn("User: {} has already submitted answers for survey: {}", user.getUserId(), survey.getSurveyId());
+            throw new ForbiddenRequestExceptionMapper(ErrorMessage.ANSWER_ALREADY_SUBMITTED);
+        }
 
-        // Initialize and execute other commands
-        List<Command> commands = List.of(
-                new SaveParticipationCommand(participationService, user, survey, surveyCertificationList),
-                new SavePointHistoryCommand(user, pointHistoryService, rewardPoints),
-                new UpdateUserPointsCommand(userRepository, user, rewardPoints)
-        );
+        log.info("Answers saved and reward points updated for user: {}", user.getUserId());
+        return AnsweredQuestionRewardPointDto.builder().rewardPoints(submission.getRewardPoints()).build();
+    }
 
-        CommandExecutor executor = new CommandExecutor(commands);
-        executor.executeCommands();
+    /**
+     * Validates a submission of the authenticated user without storing it: the survey is open to the
+     * user, the user has not answered it yet, and the answers match the questions of the survey. The
+     * user is marked as having answered, so the caller must take the mark back if it drops the submission.
+     *
+     * @return the submission to write with {@link #createAnswers(List)}
+     */
+    @Transactional(readOnly = true)
+    public AnswerSubmission prepareAnswerSubmission(AnsweredQuestionRequestDto answeredQuestionRequestDto) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        User user = UserUtil.getUserFromAuthentication(authentication);
+        log.info("Validating answer for user: {} and survey ID: {}", user.getUserId(), answeredQuestionRequestDto.getSurveyId());
 
-        log.info("Answers saved and reward points updated for user: {}", user.getUserId());
-        return AnsweredQuestionRewardPointDto.builder().rewardPoints(rewardPoints).build();
+        Survey survey = surveyRepository.findBySurveyId(answeredQuestionRequestDto.getSurveyId())
+                .orElseThrow(() -> new NotFoundExceptionMapper(ErrorMessage.SURVEY_NOT_FOUND));
+        List<Integer> surveyCertificationList = surveyRepository.findCertificationTypeBySurveyIdAndAuthorId(survey.getSurveyId(), survey.getAuthorId());
+        new ValidateUserCertificationCommand(userCertificationRepository, surveyParticipationIndex,
+                surveyCertificationList, user, survey).execute();
+
+        return toAnswerSubmission(answeredQuestionRequestDto, survey, user, surveyCertificationList, new AtomicBoolean());
+    }
+
+    /**
+     * Writes prepared submissions in one transaction, so that their rows are flushed as shared insert
+     * batches and committed together.
+     */
+    @Transactional
+    public void createAnswers(List<AnswerSubmission> submissions) {
+        // users are loaded once, so that submissions of the same user add up their reward points
+        Map<Long, User> users = userRepository.findAllById(submissions.stream()
+                        .map(AnswerSubmission::getUserId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+        for (AnswerSubmission submission : submissions) {
+            User user = users.get(submission.getUserId());
+            if (user == null) {
+                throw new IllegalStateException("User " + submission.getUserId() + " of a submission no longer exists");
+            }
+            saveAnswerSubmission(submission, surveyRepository.getReferenceById(submission.getSurveyId()), user);
+        }
+        log.info("Answers saved for {} submissions", submissions.size());
     }
 
     @Transactional
@@ -114,10 +177,75 @@ public class AnsweredQuestionService {
         }
     }
 
-    private int saveAnsweredQuestion(AnsweredQuestionRequestDto answeredQuestionRequestDto, Survey survey, User user) {
+    private AnswerSubmission toAnswerSubmission(AnsweredQuestionRequestDto answeredQuestionRequestDto, Survey survey,
+                                                User user, List<Integer> surveyCertificationList,
+                                                AtomicBoolean duplicate) {
+        // Execute validation and fetch rewardPoints
+        int rewardPoints = validateAndCalculateRewardPoints(answeredQuestionRequestDto.getAnswers(), survey);
+        markAnswered(survey.getSurveyId(), user.getUserId(), duplicate);
+
+        return AnswerSubmission.builder()
+                .userId(user.getUserId())
+                .survey(survey)
+                .surveyCertificationList(surveyCertificationList)
+                .answers(answeredQuestionRequestDto.getAnswers())
+                .rewardPoints(rewardPoints)
+                .submittedAt(System.currentTimeMillis())
+                // the respondent started when they first opened the survey, if that was seen
+                .startedAt(surveyTelemetry.getStartedAt(survey.getSurveyId(), user.getUserId()))
+                .build();
+    }
+
+    /**
+     * Accepts only the first submission of the user, also among concurrent ones. The mark was set by this
+     * submission, so it is taken back if the submission is not stored, unless the submission turned out
+     * to be a {@code duplicate} of stored answers, which the mark stands for then.
+     */
+    private void markAnswered(Long surveyId, Long userId, AtomicBoolean duplicate) {
+        if (!surveyParticipationIndex.markAnswered(surveyId, userId)) {
+            log.warn("User: {} has already submitted answers for survey: {}", userId, surveyId);
+            throw new ForbiddenRequestExceptionMapper(ErrorMessage.ANSWER_ALREADY_SUBMITTED);
+        }
+        TransactionalCacheEviction.runAfterRollback(() -> {
+            if (!duplicate.get()) {
+                surveyParticipationIndex.unmarkAnswered(surveyId, userId);
+            }
+        });
+    }
+
+    private void saveAnswerSubmission(AnswerSubmission submission, Survey survey, User user) {
+        saveAnsweredQuestion(submission.getAnswers(), survey, user);
+
+        LocalDateTime participateDate = LocalDateTime.ofInstant(Instant.ofEpochMilli(
+                submission.getStartedAt() != null ? submission.getStartedAt() : submission.getSubmittedAt()),
+                ZoneId.of("Asia/Seoul"));
+
+        // Initialize and execute other commands
+        List<Command> commands = List.of(
+                new SaveParticipationCommand(participationService, user, survey, submission.getSurveyCertificationList(), participateDate),
+                new SavePointHistoryCommand(user, pointHistoryService, submission.getRewardPoints()),
+                new UpdateUserPointsCommand(userRepository, user, submission.getRewardPoints())
+        );
+
+        CommandExecutor executor = new CommandExecutor(commands);
+        executor.executeCommands();
+
+        // counters are updated last to hold their row locks for as short as possible
+        Long surveyId = submission.getSurveyId();
+        long responseVersion = surveyResponseCounterService.increment(surveyId, submission.getAnswers());
+        surveyResultCache.bumpVersion(surveyId, version -> surveyResponseCubeCache.append(
+                surveyId, version, user.getUserId(), submission.getAnswers()));
+        surveyTelemetry.recordSubmission(surveyId, user.getUserId(), submission.getSubmittedAt(), submission.getStartedAt());
+        surveyLiveResultBroadcaster.publish(surveyId, responseVersion, submission.getAnswers());
+        textAnswerKeywordSketch.record(surveyId, submission.getAnswers());
+    }
+
+    private int validateAndCalculateRewardPoints(List<AnsweredQuestionDto> answers, Survey survey) {
+        validateAnswers(surveyAnswerPlanCache.get(survey.getSurveyId()), answers);
+
         boolean isAnswered = false;
         int rewardPoints = 0;
-        for (AnsweredQuestionDto answeredQuestionDto : answeredQuestionRequestDto.getAnswers()) {
+        for (AnsweredQuestionDto answeredQuestionDto : answers) {
 
             // Check if the question is required and has an empty answer.
             if (answeredQuestionDto.getIsRequired() && validateEmptyAnswer(answeredQuestionDto)) {
@@ -129,32 +257,75 @@ public class AnsweredQuestionService {
                 isAnswered = true;
             }
 
-            QuestionBank questionBank = questionBankRepository.findByQuestionBankId(answeredQuestionDto.getQuestionBankId())
-                    .orElseThrow(() -> new NotFoundExceptionMapper(ErrorMessage.QUESTION_BANK_NOT_FOUND));
-            Optional<Question> question = questionRepository.findBySurveyIdAndQuestionBankId(survey.getSurveyId(), questionBank.getQuestionBankId());
-            if (question.isEmpty()) {
-                throw new BadRequestExceptionMapper(ErrorMessage.NOT_SURVEY_QUESTION);
-            }
+            // Accumulate reward points based on the answered question
+            rewardPoints += getQuestionBankRewardPoints(answeredQuestionDto);
+        }
+        // Throw an exception if no question was answered
+        if (!isAnswered) {
+            throw new BadRequestExceptionMapper(ErrorMessage.ANSWER_AT_LEAST_ONE_QUESTION);
+        }
+        return rewardPoints;
+    }
+
+    private void saveAnsweredQuestion(List<AnsweredQuestionDto> answers, Survey survey, User user) {
+        for (AnsweredQuestionDto answeredQuestionDto : answers) {
+            // the question is known to belong to the survey, so a reference is enough to insert the answer
+            Question question = questionRepository.getReferenceById(QuestionId.builder()
+                    .survey(survey)
+                    .questionBank(questionBankRepository.getReferenceById(answeredQuestionDto.getQuestionBankId()))
+                    .build());
 
             // If there are no multiple choices, save the answered question
             if (answeredQuestionDto.getMultipleChoices() == null || answeredQuestionDto.getMultipleChoices().isEmpty()) {
-                answeredQuestionRepository.save(answeredQuestionMapper.toAnsweredQuestion(answeredQuestionDto, user, question.get()));
+                answeredQuestionRepository.save(answeredQuestionMapper.toAnsweredQuestion(answeredQuestionDto, user, question));
             } else {
                 // If there are multiple choices, map each choice to an answered question and save them all
                 List<AnsweredQuestion> answeredQuestionList = answeredQuestionDto.getMultipleChoices()
                         .stream()
-                        .map(choice -> answeredQuestionMapper.toAnsweredQuestionWithMultipleChoices(user, question.get(), choice))
+                        .map(choice -> answeredQuestionMapper.toAnsweredQuestionWithMultipleChoices(user, question, choice))
                         .collect(Collectors.toList());
                 answeredQuestionRepository.saveAll(answeredQuestionList);
             }
-            // Accumulate reward points based on the answered question
-            rewardPoints += getQuestionBankRewardPoints(answeredQuestionDto);
         }
-        // Throw an exception if no question was answered
-        if (!isAnswered) {
-            throw new BadRequestExceptionMapper(ErrorMessage.ANSWER_AT_LEAST_ONE_QUESTION);
+    }
+
+    /**
+     * Validates the answers against the questions of the survey in memory: every answered question
+     * belongs to the survey and is answered once with its own type and required flag, chosen options
+     * belong to the question, and no required question is left out.
+     */
+    private void validateAnswers(SurveyAnswerPlan plan, List<AnsweredQuestionDto> answers) {
+        Set<Long> answeredQuestionBankIds = new HashSet<>();
+        for (AnsweredQuestionDto answer : answers) {
+            QuestionPlan question = plan.getQuestion(answer.getQuestionBankId());
+            if (question == null) {
+                throw new BadRequestExceptionMapper(ErrorMessage.NOT_SURVEY_QUESTION);
+            }
+            if (!answeredQuestionBankIds.add(answer.getQuestionBankId())) {
+                throw new BadRequestExceptionMapper(ErrorMessage.INVALID_REQUEST);
+            }
+            if (answer.getQuestionType() != question.getQuestionType()) {
+                throw new BadRequestExceptionMapper(ErrorMessage.INVALID_QUESTION_TYPE);
+            }
+            if (answer.getIsRequired() != question.isRequired()) {
+                throw new BadRequestExceptionMapper(ErrorMessage.QUESTION_REQUIRED_MISMATCH);
+            }
+            if (answer.getSingleChoice() != null && (question.getQuestionType() != QuestionType.SINGLE_CHOICE
+                    || !question.hasOption(answer.getSingleChoice()))) {
+                throw new BadRequestExceptionMapper(ErrorMessage.NOT_QUESTION_OPTION);
+            }
+            if (answer.getMultipleChoices() != null && !answer.getMultipleChoices().isEmpty()
+                    && (question.getQuestionType() != QuestionType.MULTIPLE_CHOICES
+                    || !answer.getMultipleChoices().stream().allMatch(question::hasOption)
+                    || new HashSet<>(answer.getMultipleChoices()).size() != answer.getMultipleChoices().size())) {
+                throw new BadRequestExceptionMapper(ErrorMessage.NOT_QUESTION_OPTION);
+            }
+        }
+        for (QuestionPlan question : plan.getQuestions()) {
+            if (question.isRequired() && !answeredQuestionBankIds.contains(question.getQuestionBankId())) {
+                throw new BadRequestExceptionMapper(ErrorMessage.NOT_ANSWER_TO_REQUIRED_QUESTION);
+            }
         }
-        return rewardPoints;
     }
 
     private boolean validateEmptyAnswer(AnsweredQuestionDto answeredQuestionDto) {
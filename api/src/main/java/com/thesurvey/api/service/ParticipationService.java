@@ -9,6 +9,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 @Service
@@ -22,9 +24,15 @@ public class ParticipationService {
     @Transactional
     public void createParticipation(User user, List<CertificationType> certificationTypes,
         Survey survey) {
+        createParticipation(user, certificationTypes, survey, LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+    }
+
+    @Transactional
+    public void createParticipation(User user, List<CertificationType> certificationTypes,
+        Survey survey, LocalDateTime participateDate) {
         certificationTypes.stream()
             .map((certificationType) -> participationMapper.toParticipation(user, survey,
-                certificationType))
+                certificationType, participateDate))
             .forEach(participationRepository::save);
     }
 
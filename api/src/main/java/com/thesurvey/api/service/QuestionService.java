@@ -4,6 +4,7 @@ import com.thesurvey.api.domain.Question;
 import com.thesurvey.api.domain.QuestionBank;
 import com.thesurvey.api.domain.QuestionOption;
 import com.thesurvey.api.domain.Survey;
+import com.thesurvey.api.dto.projection.SurveyQuestionRuleDto;
 import com.thesurvey.api.dto.request.question.QuestionBankUpdateRequestDto;
 import com.thesurvey.api.dto.request.question.QuestionRequestDto;
 import com.thesurvey.api.dto.response.question.QuestionBankResponseDto;
@@ -23,7 +24,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -49,18 +52,26 @@ public class QuestionService {
     @Transactional(readOnly = true)
     public List<QuestionBankResponseDto> getQuestionBankInfoDtoListBySurveyId(Long surveyId) {
         log.info("Fetching question bank info DTO list for survey ID: {}", surveyId);
+        // required flags and options of all questions are read at once rather than per question
+        Map<Long, Boolean> isRequiredByQuestionBankId = questionRepository.findQuestionRulesBySurveyId(surveyId)
+                .stream()
+                .collect(Collectors.toMap(SurveyQuestionRuleDto::getQuestionBankId, SurveyQuestionRuleDto::getIsRequired));
+        Map<Long, List<QuestionOption>> questionOptionsByQuestionBankId = questionOptionRepository.findAllBySurveyId(surveyId)
+                .stream()
+                .sorted(Comparator.comparing(QuestionOption::getQuestionOptionId))
+                .collect(Collectors.groupingBy(questionOption -> questionOption.getQuestionBank().getQuestionBankId()));
+
         return questionBankRepository.findAllBySurveyId(surveyId)
                 .stream()
                 .map(questionBank -> {
-                    List<QuestionOption> questionOptionList = questionOptionRepository
-                            .findAllByQuestionBankId(questionBank.getQuestionBankId());
-
-                    List<QuestionOptionResponseDto> questionOptionResponseDtoList = questionOptionList
+                    List<QuestionOptionResponseDto> questionOptionResponseDtoList = questionOptionsByQuestionBankId
+                            .getOrDefault(questionBank.getQuestionBankId(), List.of())
                             .stream()
                             .map(questionOptionMapper::toQuestionOptionResponseDto)
                             .collect(Collectors.toList());
 
                     return questionBankMapper.toQuestionBankResponseDto(questionBank,
+                            isRequiredByQuestionBankId.get(questionBank.getQuestionBankId()),
                             questionOptionResponseDtoList);
                 })
                 .collect(Collectors.toList());
@@ -0,0 +1,287 @@
+package com.thesurvey.api.service;
+
+import com.thesurvey.api.cache.SurveyParticipationIndex;
+import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionRequestDto;
+import com.thesurvey.api.dto.response.answeredQuestion.AnsweredQuestionRewardPointDto;
+import com.thesurvey.api.exception.ErrorMessage;
+import com.thesurvey.api.exception.mapper.ServiceUnavailableExceptionMapper;
+import com.thesurvey.api.util.PersistenceExceptionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accepts submissions of answers ahead of writing them, when {@code survey.submission.async.enabled}
+ * is set.
+ * <p>
+ * A submission is validated against the survey and accepted in the {@link SurveyParticipationIndex}
+ * as the only one of its user, then put on a bounded queue and acknowledged. Writer threads take up to
+ * {@code batch-size} submissions at a time, waiting at most {@code max-wait} for a batch to fill, and
+ * write each batch in one transaction, so its rows go out as shared multi-row inserts and one commit.
+ * A batch is written in survey order, so concurrent writers lock the counter rows of its surveys in
+ * the same order. A write that fails transiently, such as on a lock timeout or deadlock, is retried up
+ * to {@code max-retries} times, backing off from {@code retry-backoff}; a batch that still fails is
+ * written one submission at a time, and only a submission that fails that way too is given up.
+ * When the queue is full the submission is refused with 503 and a Retry-After header. On shutdown,
+ * after the web server has stopped taking requests, the queue is drained before the data source closes.
+ */
+@Slf4j
+@Service
+public class SubmissionWriteBehindService implements SmartLifecycle {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private static final Comparator<AnswerSubmission> WRITE_ORDER =
+        Comparator.comparing(AnswerSubmission::getSurveyId).thenComparing(AnswerSubmission::getUserId);
+
+    private final AnsweredQuestionService answeredQuestionService;
+
+    private final SurveyParticipationIndex surveyParticipationIndex;
+
+    private final boolean enabled;
+
+    private final int writerThreads;
+
+    private final int batchSize;
+
+    private final Duration maxWait;
+
+    private final long retryAfterSeconds;
+
+    private final int maxRetries;
+
+    private final Duration retryBackoff;
+
+    private final Duration shutdownTimeout;
+
+    private final BlockingQueue<AnswerSubmission> queue;
+
+    private final Timer commitTimer;
+
+    private final DistributionSummary batchSizeSummary;
+
+    private final Counter failedCounter;
+
+    private ExecutorService writers;
+
+    private volatile boolean running;
+
+    public SubmissionWriteBehindService(AnsweredQuestionService answeredQuestionService,
+        SurveyParticipationIndex surveyParticipationIndex, MeterRegistry meterRegistry,
+        @Value("${survey.submission.async.enabled:false}") boolean enabled,
+        @Value("${survey.submission.async.queue-capacity:10000}") int queueCapacity,
+        @Value("${survey.submission.async.writer-threads:2}") int writerThreads,
+        @Value("${survey.submission.async.batch-size:100}") int batchSize,
+        @Value("${survey.submission.async.max-wait:PT0.02S}") Duration maxWait,
+        @Value("${survey.submission.async.retry-after-seconds:1}") long retryAfterSeconds,
+        @Value("${survey.submission.async.max-retries:3}") int maxRetries,
+        @Value("${survey.submission.async.retry-backoff:PT0.05S}") Duration retryBackoff,
+        @Value("${survey.submission.async.shutdown-timeout:PT30S}") Duration shutdownTimeout) {
+        this.answeredQuestionService = answeredQuestionService;
+        this.surveyParticipationIndex = surveyParticipationIndex;
+        this.enabled = enabled;
+        this.writerThreads = writerThreads;
+        this.batchSize = batchSize;
+        this.maxWait = maxWait;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+        this.shutdownTimeout = shutdownTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("survey.submission.queue.depth", queue, BlockingQueue::size)
+            .register(meterRegistry);
+        this.commitTimer = Timer.builder("survey.submission.commit")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("survey.submission.batch.size")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("survey.submission.failed")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Validates the submission of the authenticated user and queues it for writing.
+     *
+     * @return the reward points the user receives once the submission is written
+     */
+    public AnsweredQuestionRewardPointDto submit(AnsweredQuestionRequestDto answeredQuestionRequestDto) {
+        if (!running) {
+            throw new ServiceUnavailableExceptionMapper(ErrorMessage.SUBMISSION_QUEUE_FULL, retryAfterSeconds);
+        }
+        AnswerSubmission submission = answeredQuestionService.prepareAnswerSubmission(answeredQuestionRequestDto);
+        if (!queue.offer(submission)) {
+            surveyParticipationIndex.unmarkAnswered(submission.getSurveyId(), submission.getUserId());
+            log.warn("Submission queue is full, refusing answers of user: {} for survey: {}",
+                submission.getUserId(), submission.getSurveyId());
+            throw new ServiceUnavailableExceptionMapper(ErrorMessage.SUBMISSION_QUEUE_FULL, retryAfterSeconds);
+        }
+        return AnsweredQuestionRewardPointDto.builder().rewardPoints(submission.getRewardPoints()).build();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writers = Executors.newFixedThreadPool(writerThreads, new CustomizableThreadFactory("submission-writer-"));
+        for (int i = 0; i < writerThreads; i++) {
+            writers.execute(this::writeUntilDrained);
+        }
+        log.info("Started {} submission writers", writerThreads);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writers.shutdown();
+        try {
+            if (!writers.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.error("Submission writers did not drain within {}, {} submissions are lost",
+                    shutdownTimeout, queue.size());
+                writers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writers.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server, which stops taking requests first, and before the data source closes.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    private void writeUntilDrained() {
+        List<AnswerSubmission> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                takeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void takeBatch(List<AnswerSubmission> batch) throws InterruptedException {
+        AnswerSubmission first = queue.poll(POLL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            AnswerSubmission next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<AnswerSubmission> batch) {
+        batchSizeSummary.record(batch.size());
+        batch.sort(WRITE_ORDER);
+        try {
+            writeWithRetries(batch);
+        } catch (RuntimeException e) {
+            // one bad submission rolls back the whole batch, so the others are written one by one
+            log.warn("Failed to write a batch of {} submissions, writing them one by one", batch.size(), e);
+            batch.forEach(this::writeAlone);
+        }
+    }
+
+    private void writeAlone(AnswerSubmission submission) {
+        try {
+            writeWithRetries(List.of(submission));
+        } catch (DataIntegrityViolationException e) {
+            if (PersistenceExceptionUtil.isDuplicateParticipation(e)) {
+                // the user's participation is stored already, so the submission was a duplicate
+                failedCounter.increment();
+                log.warn("Dropped a duplicate submission of user: {} for survey: {}",
+                    submission.getUserId(), submission.getSurveyId(), e);
+            } else {
+                // any other constraint, for example the survey was deleted after the submission was accepted
+                lose(submission, e);
+            }
+        } catch (RuntimeException e) {
+            lose(submission, e);
+        }
+    }
+
+    /**
+     * Gives up a submission that could not be stored, so the user may submit again.
+     */
+    private void lose(AnswerSubmission submission, RuntimeException e) {
+        failedCounter.increment();
+        surveyParticipationIndex.unmarkAnswered(submission.getSurveyId(), submission.getUserId());
+        log.error("Failed to write answers of user: {} for survey: {}, the submission is lost",
+            submission.getUserId(), submission.getSurveyId(), e);
+    }
+
+    private void writeWithRetries(List<AnswerSubmission> submissions) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                commitTimer.record(() -> answeredQuestionService.createAnswers(submissions));
+                return;
+            } catch (TransientDataAccessException e) {
+                if (attempt >= maxRetries) {
+                    throw e;
+                }
+                Duration backoff = retryBackoff.multipliedBy(1L << attempt);
+                log.warn("Failed to write {} submissions transiently, retrying in {}",
+                    submissions.size(), backoff, e);
+                try {
+                    Thread.sleep(backoff.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.thesurvey.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thesurvey.api.cache.CacheRefreshExecutor;
+import com.thesurvey.api.cache.SurveyListCacheClearedEvent;
+import com.thesurvey.api.dto.response.survey.SurveyListPageDto;
+import com.thesurvey.api.dto.response.survey.SurveyPageDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fills the survey caches so that the first users after a deploy or a full eviction do not pay
+ * the uncached cost of the survey list.
+ * <p>
+ * The warm-up runs as an {@link ApplicationRunner}, which finishes before the readiness state
+ * becomes {@code ACCEPTING_TRAFFIC}. It runs again in the background whenever every list page
+ * is evicted. While a page is served, the next page is prefetched asynchronously.
+ */
+@Slf4j
+@Component
+public class SurveyCacheWarmer implements ApplicationRunner {
+
+    private static final int WARM_UP_PAGES = 3;
+
+    private final SurveyService surveyService;
+
+    private final SurveyDetailService surveyDetailService;
+
+    private final CacheRefreshExecutor cacheRefreshExecutor;
+
+    private final Cache<Integer, Boolean> recentPrefetches = Caffeine.newBuilder()
+        .maximumSize(1000)
+        .expireAfterWrite(Duration.ofSeconds(10))
+        .build();
+
+    private final Timer warmUpTimer;
+
+    private final AtomicInteger warmedPages = new AtomicInteger();
+
+    private final AtomicInteger warmedSurveys = new AtomicInteger();
+
+    public SurveyCacheWarmer(SurveyService surveyService, SurveyDetailService surveyDetailService,
+        CacheRefreshExecutor cacheRefreshExecutor, MeterRegistry meterRegistry) {
+        this.surveyService = surveyService;
+        this.surveyDetailService = surveyDetailService;
+        this.cacheRefreshExecutor = cacheRefreshExecutor;
+        this.warmUpTimer = Timer.builder("cache.warmup.duration")
+            .description("Time taken to warm up the survey caches")
+            .register(meterRegistry);
+        Gauge.builder("cache.warmup.pages", warmedPages, AtomicInteger::get)
+            .description("Survey list pages filled by the last warm-up")
+            .register(meterRegistry);
+        Gauge.builder("cache.warmup.surveys", warmedSurveys, AtomicInteger::get)
+            .description("Survey details filled by the last warm-up")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        warmUp();
+    }
+
+    @EventListener
+    public void onSurveyListCacheCleared(SurveyListCacheClearedEvent event) {
+        executeQuietly(this::warmUp);
+    }
+
+    /**
+     * Fills the first {@value #WARM_UP_PAGES} list pages and the details of the surveys on them.
+     */
+    public void warmUp() {
+        warmUpTimer.record(() -> {
+            int pages = 0;
+            int surveys = 0;
+            try {
+                for (int page = 1; page <= WARM_UP_PAGES; page++) {
+                    SurveyListPageDto surveyListPageDto = surveyService.getAllSurvey(page);
+                    pages++;
+                    for (SurveyPageDto surveyPageDto : surveyListPageDto.getSurveys()) {
+                        surveyDetailService.getSurveyResponseDto(surveyPageDto.getSurveyId());
+                        surveys++;
+                    }
+                    if (page >= surveyListPageDto.getTotalPages()) {
+                        break;
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Survey cache warm-up stopped after {} pages", pages, e);
+            }
+            warmedPages.set(pages);
+            warmedSurveys.set(surveys);
+            log.info("Survey cache warm-up filled {} pages and {} surveys", pages, surveys);
+        });
+    }
+
+    /**
+     * Loads the page after the given page into the cache in the background.
+     */
+    public void prefetchNextPage(int page, int totalPages) {
+        int nextPage = page + 1;
+        if (nextPage > totalPages || recentPrefetches.asMap().putIfAbsent(nextPage, true) != null) {
+            return;
+        }
+        executeQuietly(() -> {
+            try {
+                surveyService.getAllSurvey(nextPage);
+            } catch (RuntimeException e) {
+                log.debug("Failed to prefetch survey list page {}", nextPage, e);
+            }
+        });
+    }
+
+    private void executeQuietly(Runnable task) {
+        try {
+            cacheRefreshExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug("Skipped survey cache warm-up task, executor is busy");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.thesurvey.api.service;
+
+import com.thesurvey.api.cache.SurveyResponseCube;
+import com.thesurvey.api.cache.SurveyResponseCube.CrossTab;
+import com.thesurvey.api.cache.SurveyResponseCubeCache;
+import com.thesurvey.api.dto.response.user.CrossTabCellDto;
+import com.thesurvey.api.dto.response.user.UserSurveyCrossTabDto;
+import com.thesurvey.api.exception.ErrorMessage;
+import com.thesurvey.api.exception.mapper.BadRequestExceptionMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Computes cross-tabs and filtered distributions of a survey's choice answers from its
+ * {@link SurveyResponseCube} instead of SQL.
+ */
+@Service
+@RequiredArgsConstructor
+public class SurveyCrossTabService {
+
+    public static final int MAX_CROSS_TAB_QUESTIONS = 4;
+
+    public static final int MAX_CROSS_TAB_CELLS = 10000;
+
+    private final SurveyService surveyService;
+
+    private final SurveyResponseCubeCache surveyResponseCubeCache;
+
+    /**
+     * Counts the respondents by the combination of options they chose in the given questions. With a
+     * single question this is the distribution of its answers. Respondents are first filtered by
+     * {@code filterOptionIds}: a respondent must have chosen one of the listed options of every question
+     * the filter names.
+     */
+    public UserSurveyCrossTabDto getCrossTab(Long surveyId, List<Long> questionBankIds, List<Long> filterOptionIds) {
+        surveyService.validateSurveyResultAccess(surveyId);
+        if (questionBankIds == null || questionBankIds.isEmpty()) {
+            throw new BadRequestExceptionMapper(ErrorMessage.INVALID_REQUEST);
+        }
+        List<Long> distinctQuestionBankIds = new ArrayList<>(new LinkedHashSet<>(questionBankIds));
+        if (distinctQuestionBankIds.size() > MAX_CROSS_TAB_QUESTIONS) {
+            throw new BadRequestExceptionMapper(ErrorMessage.CROSS_TAB_TOO_LARGE,
+                String.valueOf(MAX_CROSS_TAB_QUESTIONS), MAX_CROSS_TAB_CELLS);
+        }
+
+        SurveyResponseCube cube = surveyResponseCubeCache.get(surveyId);
+        int[] columns = new int[distinctQuestionBankIds.size()];
+        long cellCount = 1;
+        for (int i = 0; i < columns.length; i++) {
+            Integer column = cube.findColumn(distinctQuestionBankIds.get(i));
+            if (column == null) {
+                throw new BadRequestExceptionMapper(ErrorMessage.NOT_SURVEY_QUESTION);
+            }
+            columns[i] = column;
+            cellCount *= cube.getOptionIds(column).length;
+        }
+        if (cellCount > MAX_CROSS_TAB_CELLS) {
+            throw new BadRequestExceptionMapper(ErrorMessage.CROSS_TAB_TOO_LARGE,
+                String.valueOf(MAX_CROSS_TAB_QUESTIONS), MAX_CROSS_TAB_CELLS);
+        }
+
+        long[][] filters = new long[cube.getColumnCount()][];
+        if (filterOptionIds != null) {
+            for (Long filterOptionId : filterOptionIds) {
+                int[] columnAndOrdinal = cube.findColumnAndOrdinal(filterOptionId);
+                if (columnAndOrdinal == null) {
+                    throw new BadRequestExceptionMapper(ErrorMessage.QUESTION_OPTION_NOT_FOUND);
+                }
+                int column = columnAndOrdinal[0];
+                int ordinal = columnAndOrdinal[1];
+                if (filters[column] == null) {
+                    filters[column] = cube.newFilter(column);
+                }
+                filters[column][ordinal >>> 6] |= 1L << ordinal;
+            }
+        }
+
+        CrossTab crossTab = cube.crossTab(columns, filters);
+        return UserSurveyCrossTabDto.builder()
+            .surveyId(surveyId)
+            .questionBankIds(distinctQuestionBankIds)
+            .respondentCount(crossTab.getMatchedCount())
+            .cells(toCrossTabCellDtoList(cube, columns, crossTab.getCells()))
+            .build();
+    }
+
+    private List<CrossTabCellDto> toCrossTabCellDtoList(SurveyResponseCube cube, int[] columns, long[] cells) {
+        List<CrossTabCellDto> cellDtoList = new ArrayList<>();
+        for (int index = 0; index < cells.length; index++) {
+            if (cells[index] == 0) {
+                continue;
+            }
+            // cells are in row-major order, so the last column varies fastest
+            Long[] optionIds = new Long[columns.length];
+            String[] options = new String[columns.length];
+            int remainder = index;
+            for (int i = columns.length - 1; i >= 0; i--) {
+                int optionCount = cube.getOptionIds(columns[i]).length;
+                int ordinal = remainder % optionCount;
+                remainder /= optionCount;
+                optionIds[i] = cube.getOptionIds(columns[i])[ordinal];
+                options[i] = cube.getOptions(columns[i])[ordinal];
+            }
+            cellDtoList.add(CrossTabCellDto.builder()
+                .questionOptionIds(List.of(optionIds))
+                .options(List.of(options))
+                .responseCount(cells[index])
+                .build());
+        }
+        return cellDtoList;
+    }
+}
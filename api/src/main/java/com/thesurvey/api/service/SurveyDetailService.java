@@ -0,0 +1,44 @@
+package com.thesurvey.api.service;
+
+import com.thesurvey.api.cache.TransactionalCacheEviction;
+import com.thesurvey.api.domain.Survey;
+import com.thesurvey.api.dto.response.survey.SurveyResponseDto;
+import com.thesurvey.api.exception.ErrorMessage;
+import com.thesurvey.api.exception.mapper.NotFoundExceptionMapper;
+import com.thesurvey.api.repository.SurveyRepository;
+import com.thesurvey.api.service.mapper.SurveyMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caches the survey detail payload, which is the same for every user allowed to see it.
+ * User specific validations stay in {@link SurveyService}.
+ */
+@Service
+@RequiredArgsConstructor
+public class SurveyDetailService {
+
+    public static final String CACHE_NAME = "surveyDetailCache";
+
+    private final SurveyRepository surveyRepository;
+
+    private final SurveyMapper surveyMapper;
+
+    private final CacheManager cacheManager;
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = CACHE_NAME, key = "#surveyId", sync = true)
+    public SurveyResponseDto getSurveyResponseDto(Long surveyId) {
+        Survey survey = surveyRepository.findBySurveyId(surveyId)
+                .orElseThrow(() -> new NotFoundExceptionMapper(ErrorMessage.SURVEY_NOT_FOUND));
+        return surveyMapper.toSurveyResponseDto(survey, survey.getAuthorId());
+    }
+
+    public void evictSurveyResponseDto(Long surveyId) {
+        TransactionalCacheEviction.runNowAndAfterCommit(
+                () -> cacheManager.getCache(CACHE_NAME).evict(surveyId));
+    }
+}
@@ -0,0 +1,230 @@
+package com.thesurvey.api.service;
+
+import com.thesurvey.api.domain.QuestionOption;
+import com.thesurvey.api.dto.projection.SurveyQuestionBankDto;
+import com.thesurvey.api.repository.QuestionOptionRepository;
+import com.thesurvey.api.repository.QuestionRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the raw answers of a survey as CSV with one row per respondent and one column per question.
+ * <p>
+ * Respondents are read in chunks of {@value #RESPONDENTS_PER_CHUNK} by user id. Each chunk runs in its
+ * own short read-only transaction through a forward-only cursor with a bounded fetch size, so neither
+ * the heap nor a pooled connection is held in proportion to the number of respondents.
+ */
+@Service
+public class SurveyExportService {
+
+    static final int RESPONDENTS_PER_CHUNK = 1000;
+
+    private static final String MULTIPLE_CHOICES_SEPARATOR = "; ";
+
+    /**
+     * Leading characters that make Excel and other spreadsheets read a cell as a formula.
+     */
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private static final String RESPONDENT_RANGE_QUERY =
+        "SELECT MAX(t.user_id) FROM (SELECT DISTINCT aq.user_id FROM answered_question aq "
+            + "WHERE aq.survey_id = ? AND aq.user_id > ? ORDER BY aq.user_id LIMIT ?) t";
+
+    /**
+     * Answers of the respondents in a user id range, grouped by respondent so that a row can be
+     * written as soon as the next respondent begins.
+     */
+    private static final String ANSWERS_QUERY =
+        "SELECT aq.user_id, aq.question_bank_id, aq.single_choice, aq.multiple_choices, aq.short_answer, aq.long_answer "
+            + "FROM answered_question aq WHERE aq.survey_id = ? AND aq.user_id > ? AND aq.user_id <= ? "
+            + "ORDER BY aq.user_id, aq.answered_question_id";
+
+    private final QuestionRepository questionRepository;
+
+    private final QuestionOptionRepository questionOptionRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public SurveyExportService(QuestionRepository questionRepository,
+        QuestionOptionRepository questionOptionRepository, JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager) {
+        this.questionRepository = questionRepository;
+        this.questionOptionRepository = questionOptionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // PostgreSQL only honours the fetch size with auto-commit disabled
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Writes the header and a row for every respondent of the survey. Respondents are numbered in the
+     * order they are written instead of exposing their user ids. Multiple choice answers are joined
+     * into a single cell.
+     *
+     * @return the number of respondents written
+     */
+    public long writeSurveyResponses(Long surveyId, OutputStream outputStream) {
+        List<SurveyQuestionBankDto> questionBanks = questionRepository.findQuestionBanksBySurveyId(surveyId);
+        Map<Long, Integer> columnByQuestionBankId = new HashMap<>();
+        String[] header = new String[questionBanks.size() + 1];
+        header[0] = "respondent";
+        for (int i = 0; i < questionBanks.size(); i++) {
+            SurveyQuestionBankDto questionBank = questionBanks.get(i);
+            columnByQuestionBankId.put(questionBank.getQuestionBankId(), i + 1);
+            header[i + 1] = questionBank.getQuestionNo() + ". " + questionBank.getTitle();
+        }
+        Map<Long, String> optionById = new HashMap<>();
+        for (QuestionOption questionOption : questionOptionRepository.findAllBySurveyId(surveyId)) {
+            optionById.put(questionOption.getQuestionOptionId(), questionOption.getOption());
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ResponseRowWriter rowWriter = new ResponseRowWriter(writer, columnByQuestionBankId, optionById);
+        try {
+            // byte order mark so that spreadsheet applications detect UTF-8
+            writer.write('\uFEFF');
+            rowWriter.writeRow(header);
+
+            long lastUserId = 0;
+            while (true) {
+                Long upperUserId = jdbcTemplate.queryForObject(RESPONDENT_RANGE_QUERY, Long.class,
+                    surveyId, lastUserId, RESPONDENTS_PER_CHUNK);
+                if (upperUserId == null) {
+                    break;
+                }
+                long lowerUserId = lastUserId;
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(ANSWERS_QUERY,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(SurveyStreamService.FETCH_SIZE);
+                    statement.setLong(1, surveyId);
+                    statement.setLong(2, lowerUserId);
+                    statement.setLong(3, upperUserId);
+                    return statement;
+                }, rowWriter));
+                rowWriter.writeCurrent();
+                writer.flush();
+                lastUserId = upperUserId;
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rowWriter.written;
+    }
+
+    /**
+     * Quotes a field when it contains a separator, a quote or a line break, doubling inner quotes.
+     * A field that a spreadsheet would read as a formula is prefixed with {@code '} and quoted, so
+     * that answers cannot run formulas when the author opens the file.
+     */
+    static String escape(String field) {
+        if (field == null) {
+            return "";
+        }
+        if (!field.isEmpty() && FORMULA_PREFIXES.indexOf(field.charAt(0)) >= 0) {
+            return "\"'" + field.replace("\"", "\"\"") + '"';
+        }
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0
+            && field.indexOf('\r') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+
+    private static class ResponseRowWriter implements RowCallbackHandler {
+
+        private final Writer writer;
+
+        private final Map<Long, Integer> columnByQuestionBankId;
+
+        private final Map<Long, String> optionById;
+
+        private final String[] cells;
+
+        private Long currentUserId;
+
+        private long written;
+
+        ResponseRowWriter(Writer writer, Map<Long, Integer> columnByQuestionBankId, Map<Long, String> optionById) {
+            this.writer = writer;
+            this.columnByQuestionBankId = columnByQuestionBankId;
+            this.optionById = optionById;
+            this.cells = new String[columnByQuestionBankId.size() + 1];
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long userId = rs.getLong("user_id");
+            if (currentUserId == null || currentUserId != userId) {
+                writeCurrent();
+                currentUserId = userId;
+            }
+            Integer column = columnByQuestionBankId.get(rs.getLong("question_bank_id"));
+            if (column == null) {
+                return;
+            }
+            long singleChoice = rs.getLong("single_choice");
+            if (!rs.wasNull()) {
+                cells[column] = optionById.get(singleChoice);
+                return;
+            }
+            long multipleChoice = rs.getLong("multiple_choices");
+            if (!rs.wasNull()) {
+                String option = optionById.get(multipleChoice);
+                cells[column] = cells[column] == null ? option : cells[column] + MULTIPLE_CHOICES_SEPARATOR + option;
+                return;
+            }
+            String shortAnswer = rs.getString("short_answer");
+            cells[column] = shortAnswer != null ? shortAnswer : rs.getString("long_answer");
+        }
+
+        void writeCurrent() {
+            if (currentUserId == null) {
+                return;
+            }
+            cells[0] = String.valueOf(++written);
+            try {
+                // a failed write means the client went away; the exception aborts the query
+                writeRow(cells);
+                if (written % SurveyStreamService.FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            currentUserId = null;
+            Arrays.fill(cells, null);
+        }
+
+        void writeRow(String[] fields) throws IOException {
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(fields[i]));
+            }
+            writer.write("\r\n");
+        }
+    }
+}
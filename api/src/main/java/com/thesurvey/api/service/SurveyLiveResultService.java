@@ -0,0 +1,29 @@
+package com.thesurvey.api.service;
+
+import com.thesurvey.api.cache.SurveyLiveResultBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Opens live result streams of surveys on top of {@link SurveyLiveResultBroadcaster}.
+ */
+@Service
+@RequiredArgsConstructor
+public class SurveyLiveResultService {
+
+    private final SurveyService surveyService;
+
+    private final SurveyLiveResultBroadcaster surveyLiveResultBroadcaster;
+
+    /**
+     * Subscribes to the result deltas of the survey and sends the current result first, so the client
+     * has a snapshot to apply the deltas to. The snapshot bypasses the result cache and carries the
+     * response version it includes; every delta carries the version it brings the result to. A client
+     * that reconnects receives a fresh snapshot.
+     */
+    public SseEmitter subscribe(Long surveyId) {
+        surveyService.validateSurveyResultAccess(surveyId);
+        return surveyLiveResultBroadcaster.subscribe(surveyId, () -> surveyService.getSurveyResultSnapshot(surveyId));
+    }
+}
@@ -0,0 +1,110 @@
+package com.thesurvey.api.service;
+
+import com.thesurvey.api.dto.projection.QuestionOptionCountDto;
+import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionDto;
+import com.thesurvey.api.repository.QuestionOptionCountRepository;
+import com.thesurvey.api.repository.SurveyRespondentCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maintains the per-option response counters and the respondent count of each survey.
+ * <p>
+ * Counters are updated in the transaction that saves the answers, so they are exactly as consistent
+ * as {@code answered_question}. {@link #rebuild(Long)} recomputes them from the answers when they need
+ * repair. Both first lock the respondent count of the survey, so a rebuild never runs between the
+ * statements of a submission, and the respondent count never goes missing while submissions run.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SurveyResponseCounterService {
+
+    private final QuestionOptionCountRepository questionOptionCountRepository;
+
+    private final SurveyRespondentCountRepository surveyRespondentCountRepository;
+
+    /**
+     * Counts one submission of the given answers. Should run last in the submitting transaction since
+     * the counter rows stay locked until it commits.
+     *
+     * @return the respondent count including this submission. As the respondent counter stays locked
+     * until commit, it numbers the submissions of a survey in commit order and serves as the response
+     * version of the live result stream.
+     */
+    @Transactional
+    public long increment(Long surveyId, List<AnsweredQuestionDto> answers) {
+        if (surveyRespondentCountRepository.lockBySurveyId(surveyId).isEmpty()) {
+            // the answers of this submission are saved already, so the rebuild counts them
+            log.warn("Respondent count of survey ID: {} is missing, rebuilding its counters", surveyId);
+            rebuild(surveyId);
+            return getRespondentCount(surveyId);
+        }
+
+        Map<Long, Integer> deltas = new HashMap<>();
+        for (AnsweredQuestionDto answer : answers) {
+            if (answer.getMultipleChoices() != null && !answer.getMultipleChoices().isEmpty()) {
+                answer.getMultipleChoices().forEach(option -> deltas.merge(option, 1, Integer::sum));
+            } else if (answer.getSingleChoice() != null) {
+                deltas.merge(answer.getSingleChoice(), 1, Integer::sum);
+            }
+        }
+
+        // one statement per distinct delta, normally just one; ids are sorted to lock rows in a stable order
+        Map<Integer, List<Long>> optionsByDelta = new TreeMap<>();
+        new TreeMap<>(deltas).forEach((option, delta) ->
+            optionsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(option));
+        int missing = 0;
+        for (Map.Entry<Integer, List<Long>> entry : optionsByDelta.entrySet()) {
+            List<Long> options = entry.getValue();
+            missing += options.size() - questionOptionCountRepository.increment(surveyId, options, entry.getKey());
+        }
+        if (missing > 0) {
+            log.warn("{} option counters of survey ID: {} are missing, rebuilding its counters", missing, surveyId);
+            rebuild(surveyId);
+            return getRespondentCount(surveyId);
+        }
+
+        surveyRespondentCountRepository.increment(surveyId);
+        return getRespondentCount(surveyId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<QuestionOptionCountDto> getOptionCounts(Long surveyId) {
+        return questionOptionCountRepository.findOptionCountsBySurveyId(surveyId);
+    }
+
+    @Transactional(readOnly = true)
+    public long getRespondentCount(Long surveyId) {
+        return surveyRespondentCountRepository.findRespondentCountBySurveyId(surveyId).orElse(0L);
+    }
+
+    /**
+     * Recounts the counters of a survey from its current options and answers, in place. Called when
+     * the questions of a survey are saved, and to repair counters.
+     */
+    @Transactional
+    public void rebuild(Long surveyId) {
+        surveyRespondentCountRepository.insertIfMissing(surveyId);
+        surveyRespondentCountRepository.lockBySurveyId(surveyId);
+        int options = questionOptionCountRepository.updateFromAnswers(surveyId)
+            + questionOptionCountRepository.insertMissingFromAnswers(surveyId);
+        questionOptionCountRepository.deleteRemovedOptions(surveyId);
+        surveyRespondentCountRepository.updateFromAnswers(surveyId);
+        log.info("Rebuilt {} option counters for survey ID: {}", options, surveyId);
+    }
+
+    @Transactional
+    public void delete(Long surveyId) {
+        questionOptionCountRepository.deleteBySurveyId(surveyId);
+        surveyRespondentCountRepository.deleteBySurveyId(surveyId);
+    }
+}
@@ -0,0 +1,114 @@
+package com.thesurvey.api.service;
+
+import com.thesurvey.api.domain.QuestionBank;
+import com.thesurvey.api.domain.Survey;
+import com.thesurvey.api.dto.projection.SurveySearchRankDto;
+import com.thesurvey.api.dto.response.survey.SurveyCursorPageDto;
+import com.thesurvey.api.dto.response.survey.SurveyPageDto;
+import com.thesurvey.api.exception.ErrorMessage;
+import com.thesurvey.api.exception.mapper.BadRequestExceptionMapper;
+import com.thesurvey.api.repository.SurveyRepository;
+import com.thesurvey.api.service.mapper.SurveyMapper;
+import com.thesurvey.api.util.CursorUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text search over survey titles, descriptions and question titles.
+ * <p>
+ * Each survey keeps its searchable text in {@link Survey#getSearchText()}, from which PostgreSQL
+ * derives a GIN-indexed {@code tsvector}. Terms are matched as prefixes with the {@code simple}
+ * configuration so that Korean words followed by particles (e.g. {@code 카카오톡의}) still match
+ * {@code 카카오}.
+ */
+@Service
+@RequiredArgsConstructor
+public class SurveySearchService {
+
+    private static final int MAX_SEARCH_TERMS = 8;
+
+    private final SurveyRepository surveyRepository;
+
+    private final SurveyMapper surveyMapper;
+
+    /**
+     * Rebuilds the searchable text of the survey from its current title, description and questions.
+     */
+    public void refreshSearchText(Survey survey, List<QuestionBank> questionBanks) {
+        List<String> parts = new ArrayList<>();
+        parts.add(survey.getTitle());
+        parts.add(survey.getDescription());
+        for (QuestionBank questionBank : questionBanks) {
+            parts.add(questionBank.getTitle());
+        }
+        survey.changeSearchText(parts.stream().filter(Objects::nonNull).collect(Collectors.joining(" ")));
+    }
+
+    /**
+     * Returns active surveys matching every term of the query, best match first.
+     *
+     * @param query  search terms separated by whitespace
+     * @param cursor opaque cursor from a previous response, or empty for the first page
+     * @return {@link SurveyCursorPageDto} without a previous cursor
+     */
+    @Transactional(readOnly = true)
+    public SurveyCursorPageDto searchSurveys(String query, String cursor) {
+        String tsQuery = toTsQuery(query);
+        // fetch one extra row to find out whether another page exists
+        int limit = SurveyService.SURVEY_PAGE_SIZE + 1;
+        List<SurveySearchRankDto> hits;
+        if (cursor == null || cursor.isBlank()) {
+            hits = surveyRepository.searchFirst(tsQuery, limit);
+        } else {
+            CursorUtil.RankCursor decoded = CursorUtil.decodeRank(cursor);
+            hits = surveyRepository.searchAfterCursor(tsQuery, decoded.getRank(), decoded.getSurveyId(), limit);
+        }
+
+        List<SurveySearchRankDto> content = hits.subList(0, Math.min(hits.size(), SurveyService.SURVEY_PAGE_SIZE));
+        String nextCursor = null;
+        if (hits.size() > SurveyService.SURVEY_PAGE_SIZE) {
+            SurveySearchRankDto last = content.get(content.size() - 1);
+            nextCursor = CursorUtil.encodeRank(last.getSearchRank(), last.getSurveyId());
+        }
+
+        List<Long> surveyIds = content.stream().map(SurveySearchRankDto::getSurveyId).collect(Collectors.toList());
+        Map<Long, Survey> surveysById = surveyRepository.findAllById(surveyIds).stream()
+            .collect(Collectors.toMap(Survey::getSurveyId, Function.identity()));
+        List<Survey> surveys = surveyIds.stream()
+            .map(surveysById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+
+        List<SurveyPageDto> surveyPageDtoList = surveyMapper.toSurveyPageDtoList(surveys);
+        return surveyMapper.toSurveyCursorPageDto(surveyPageDtoList, nextCursor, null);
+    }
+
+    /**
+     * Turns free text into a prefix {@code tsquery} such as {@code 카카오:* & 만족도:*}. Only letters and
+     * digits are kept, so user input can never inject tsquery operators.
+     */
+    static String toTsQuery(String query) {
+        if (query == null) {
+            throw new BadRequestExceptionMapper(ErrorMessage.INVALID_SEARCH_QUERY);
+        }
+        List<String> terms = Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+            .filter(term -> !term.isEmpty())
+            .distinct()
+            .limit(MAX_SEARCH_TERMS)
+            .collect(Collectors.toList());
+        if (terms.isEmpty()) {
+            throw new BadRequestExceptionMapper(ErrorMessage.INVALID_SEARCH_QUERY);
+        }
+        return terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & "));
+    }
+}
@@ -1,11 +1,25 @@
 package com.thesurvey.api.service;
 
+import com.thesurvey.api.cache.SurveyAnswerPlanCache;
+import com.thesurvey.api.cache.SurveyListCacheIndex;
+import com.thesurvey.api.cache.SurveyParticipationIndex;
+import com.thesurvey.api.cache.SurveyResultCache;
+import com.thesurvey.api.cache.SurveyTelemetry;
+import com.thesurvey.api.cache.TextAnswerKeywordSketch;
 import com.thesurvey.api.domain.*;
+import com.thesurvey.api.domain.EnumTypeEntity.CertificationType;
 import com.thesurvey.api.domain.EnumTypeEntity.QuestionType;
+import com.thesurvey.api.dto.projection.QuestionOptionCountDto;
+import com.thesurvey.api.dto.projection.SurveyQuestionBankDto;
+import com.thesurvey.api.dto.projection.TextAnswerCountDto;
+import com.thesurvey.api.dto.projection.TextAnswerDto;
+import com.thesurvey.api.dto.request.survey.SurveyFilterRequestDto;
 import com.thesurvey.api.dto.request.survey.SurveyRequestDto;
 import com.thesurvey.api.dto.request.survey.SurveyUpdateRequestDto;
 import com.thesurvey.api.dto.response.question.QuestionBankAnswerDto;
 import com.thesurvey.api.dto.response.question.QuestionOptionAnswerDto;
+import com.thesurvey.api.dto.response.question.TextAnswerKeywordDto;
+import com.thesurvey.api.dto.response.survey.SurveyCursorPageDto;
 import com.thesurvey.api.dto.response.survey.SurveyListPageDto;
 import com.thesurvey.api.dto.response.survey.SurveyPageDto;
 import com.thesurvey.api.dto.response.survey.SurveyResponseDto;
@@ -17,42 +31,59 @@ import com.thesurvey.api.exception.mapper.ForbiddenRequestExceptionMapper;
 import com.thesurvey.api.exception.mapper.NotFoundExceptionMapper;
 import com.thesurvey.api.repository.AnsweredQuestionRepository;
 import com.thesurvey.api.repository.QuestionBankRepository;
+import com.thesurvey.api.repository.QuestionRepository;
 import com.thesurvey.api.repository.SurveyRepository;
+import com.thesurvey.api.repository.SurveySpecifications;
 import com.thesurvey.api.repository.UserRepository;
 import com.thesurvey.api.service.mapper.QuestionBankMapper;
 import com.thesurvey.api.service.mapper.QuestionOptionMapper;
 import com.thesurvey.api.service.mapper.SurveyMapper;
+import com.thesurvey.api.util.CursorUtil;
 import com.thesurvey.api.util.PointUtil;
 import com.thesurvey.api.util.StringUtil;
 import com.thesurvey.api.util.UserUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class SurveyService {
 
+    public static final int SURVEY_PAGE_SIZE = 8;
+
+    public static final int TEXT_ANSWER_PREVIEW_SIZE = 20;
+
+    public static final int TOP_KEYWORD_SIZE = 10;
+
     private final SurveyRepository surveyRepository;
 
     private final SurveyMapper surveyMapper;
 
     private final QuestionService questionService;
 
-    private final QuestionOptionService questionOptionService;
-
     private final ParticipationService participationService;
 
     private final AnsweredQuestionService answeredQuestionService;
@@ -69,10 +100,30 @@ public class SurveyService {
 
     private final QuestionBankRepository questionBankRepository;
 
+    private final QuestionRepository questionRepository;
+
     private final SurveyTransactionService surveyTransactionService;
 
+    private final SurveyListCacheIndex surveyListCacheIndex;
+
+    private final SurveyResultCache surveyResultCache;
+
+    private final SurveyDetailService surveyDetailService;
+
+    private final SurveySearchService surveySearchService;
+
+    private final SurveyResponseCounterService surveyResponseCounterService;
+
+    private final SurveyTelemetry surveyTelemetry;
+
+    private final TextAnswerKeywordSketch textAnswerKeywordSketch;
+
+    private final SurveyAnswerPlanCache surveyAnswerPlanCache;
+
+    private final SurveyParticipationIndex surveyParticipationIndex;
+
     @Transactional(readOnly = true)
-    @Cacheable(value = "surveyListCache", key = "#page")
+    @Cacheable(value = "surveyListCache", key = "#page", sync = true)
     public SurveyListPageDto getAllSurvey(int page) {
         // page starts from 1
         if (page < 1) {
@@ -80,16 +131,118 @@ public class SurveyService {
         }
 
         Page<Survey> surveyPage = surveyRepository.findAllInDescendingOrder(
-                PageRequest.of(page - 1, 8));
+                PageRequest.of(page - 1, SURVEY_PAGE_SIZE));
         if (surveyPage.getTotalElements() != 0 && surveyPage.getTotalPages() < page) {
             throw new NotFoundExceptionMapper(ErrorMessage.PAGE_NOT_FOUND);
         }
 
-        List<SurveyPageDto> surveyPageDtoList = surveyPage.getContent().stream()
-                .map(surveyMapper::toSurveyPageDto).collect(Collectors.toList());
+        List<SurveyPageDto> surveyPageDtoList = surveyMapper.toSurveyPageDtoList(surveyPage.getContent());
+        surveyListCacheIndex.record(page, surveyPageDtoList.stream()
+                .map(SurveyPageDto::getSurveyId).collect(Collectors.toList()));
         return surveyMapper.toSurveyListPageDto(surveyPageDtoList, surveyPage);
     }
 
+    /**
+     * Returns a page of surveys matching the given filters. Filtered pages are not cached since the
+     * filter combinations are unbounded.
+     *
+     * @param page   page number starting from 1
+     * @param filter {@link SurveyFilterRequestDto}, with at least one filter set
+     * @return {@link SurveyListPageDto}
+     */
+    @Transactional(readOnly = true)
+    public SurveyListPageDto getFilteredSurvey(int page, SurveyFilterRequestDto filter) {
+        if (page < 1) {
+            throw new BadRequestExceptionMapper(ErrorMessage.INVALID_REQUEST);
+        }
+        if (filter.getMinRewardPoints() != null && filter.getMaxRewardPoints() != null
+                && filter.getMinRewardPoints() > filter.getMaxRewardPoints()) {
+            throw new BadRequestExceptionMapper(ErrorMessage.INVALID_REQUEST);
+        }
+
+        Specification<Survey> specification =
+                SurveySpecifications.endedAfter(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+        if (filter.getMinRewardPoints() != null) {
+            specification = specification.and(SurveySpecifications.rewardPointsAtLeast(filter.getMinRewardPoints()));
+        }
+        if (filter.getMaxRewardPoints() != null) {
+            specification = specification.and(SurveySpecifications.rewardPointsAtMost(filter.getMaxRewardPoints()));
+        }
+        if (filter.getEndedBefore() != null) {
+            specification = specification.and(SurveySpecifications.endedBefore(filter.getEndedBefore()));
+        }
+        if (filter.getCertificationTypes() != null) {
+            // NONE is always allowed; it also keeps the IN list from being empty
+            Set<CertificationType> certificationTypes = EnumSet.of(CertificationType.NONE);
+            certificationTypes.addAll(filter.getCertificationTypes());
+            specification = specification.and(SurveySpecifications.certifiedWithin(certificationTypes));
+        }
+
+        Page<Survey> surveyPage = surveyRepository.findAll(specification, PageRequest.of(page - 1, SURVEY_PAGE_SIZE,
+                Sort.by(Sort.Direction.DESC, "createdDate", "surveyId")));
+        if (surveyPage.getTotalElements() != 0 && surveyPage.getTotalPages() < page) {
+            throw new NotFoundExceptionMapper(ErrorMessage.PAGE_NOT_FOUND);
+        }
+
+        List<SurveyPageDto> surveyPageDtoList = surveyMapper.toSurveyPageDtoList(surveyPage.getContent());
+        return surveyMapper.toSurveyListPageDto(surveyPageDtoList, surveyPage);
+    }
+
+    /**
+     * Returns a page of surveys using keyset pagination on {@code (createdDate, surveyId)}.
+     * Unlike {@link #getAllSurvey(int)}, no count query is issued and deep pages cost the same as
+     * the first page.
+     *
+     * @param cursor    opaque cursor from a previous response, or empty for the first page
+     * @param direction {@code next} for older surveys, {@code prev} for newer surveys
+     * @return {@link SurveyCursorPageDto}
+     */
+    @Transactional(readOnly = true)
+    public SurveyCursorPageDto getAllSurveyByCursor(String cursor, String direction) {
+        boolean isPrev = "prev".equalsIgnoreCase(direction);
+        if (!isPrev && !"next".equalsIgnoreCase(direction)) {
+            throw new BadRequestExceptionMapper(ErrorMessage.INVALID_REQUEST);
+        }
+
+        // fetch one extra row to find out whether another page exists
+        PageRequest limit = PageRequest.of(0, SURVEY_PAGE_SIZE + 1);
+        List<Survey> surveys;
+        if (cursor == null || cursor.isBlank()) {
+            if (isPrev) {
+                throw new BadRequestExceptionMapper(ErrorMessage.INVALID_CURSOR);
+            }
+            surveys = surveyRepository.findFirstInDescendingOrder(limit);
+        } else {
+            CursorUtil.Cursor decoded = CursorUtil.decode(cursor);
+            surveys = isPrev
+                    ? surveyRepository.findAllAfterCursor(decoded.getCreatedDate(), decoded.getSurveyId(), limit)
+                    : surveyRepository.findAllBeforeCursor(decoded.getCreatedDate(), decoded.getSurveyId(), limit);
+        }
+
+        boolean hasMore = surveys.size() > SURVEY_PAGE_SIZE;
+        List<Survey> content = new ArrayList<>(surveys.subList(0, Math.min(surveys.size(), SURVEY_PAGE_SIZE)));
+        if (isPrev) {
+            Collections.reverse(content);
+        }
+
+        boolean hasCursor = cursor != null && !cursor.isBlank();
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!content.isEmpty()) {
+            Survey first = content.get(0);
+            Survey last = content.get(content.size() - 1);
+            if (isPrev ? hasCursor : hasMore) {
+                nextCursor = CursorUtil.encode(last.getCreatedDate(), last.getSurveyId());
+            }
+            if (isPrev ? hasMore : hasCursor) {
+                prevCursor = CursorUtil.encode(first.getCreatedDate(), first.getSurveyId());
+            }
+        }
+
+        List<SurveyPageDto> surveyPageDtoList = surveyMapper.toSurveyPageDtoList(content);
+        return surveyMapper.toSurveyCursorPageDto(surveyPageDtoList, nextCursor, prevCursor);
+    }
+
     @Transactional(readOnly = true)
     public SurveyResponseDto getSurveyBySurveyIdWithRelatedQuestion(Long surveyId) {
         Survey survey = getSurveyFromSurveyId(surveyId);
@@ -104,11 +257,11 @@ public class SurveyService {
         }
 
         // validate if a user has already responded to the survey
-        if (answeredQuestionRepository.existsByUserIdAndSurveyId(userId, survey.getSurveyId())) {
+        if (surveyParticipationIndex.hasAnswered(survey.getSurveyId(), userId)) {
             throw new ForbiddenRequestExceptionMapper(ErrorMessage.ANSWER_ALREADY_SUBMITTED);
         }
 
-        return surveyMapper.toSurveyResponseDto(survey, survey.getAuthorId());
+        return surveyDetailService.getSurveyResponseDto(surveyId);
     }
 
     @Transactional(readOnly = true)
@@ -128,10 +281,44 @@ public class SurveyService {
      */
     @Transactional(readOnly = true)
     public UserSurveyResultDto getUserCreatedSurveyResult(Long surveyId) {
+        Survey survey = validateSurveyResultAccess(surveyId);
+
+        return surveyResultCache.get(surveyId, () -> {
+            List<QuestionBankAnswerDto> questionBankAnswerDtoList = getQuestionBankAnswerDtoList(surveyId);
+            long respondentCount = surveyResponseCounterService.getRespondentCount(surveyId);
+            return surveyMapper.toUserSurveyResultDto(survey, respondentCount, questionBankAnswerDtoList);
+        });
+    }
+
+    /**
+     * Computes the result of the survey without the result cache, reading the counters and the
+     * respondent count from one database snapshot. The respondent count is then exactly the response
+     * version of the result, so that live result deltas up to it can be told apart from later ones.
+     *
+     * @param surveyId the ID of survey to get result
+     * @return {@link UserSurveyResultDto} with its response version
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public UserSurveyResultDto getSurveyResultSnapshot(Long surveyId) {
+        Survey survey = getSurveyFromSurveyId(surveyId);
+        long respondentCount = surveyResponseCounterService.getRespondentCount(surveyId);
+        List<QuestionBankAnswerDto> questionBankAnswerDtoList = getQuestionBankAnswerDtoList(surveyId);
+        return surveyMapper.toUserSurveyResultDto(survey, respondentCount, questionBankAnswerDtoList).toBuilder()
+                .version(respondentCount)
+                .build();
+    }
+
+    /**
+     * Validates that the current user authored the survey and that it has started, which is required
+     * to read any of its results.
+     *
+     * @return the survey
+     */
+    @Transactional(readOnly = true)
+    public Survey validateSurveyResultAccess(Long surveyId) {
         Survey survey = getSurveyFromSurveyId(surveyId);
 
         // validate survey author from current user
-
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         validateSurveyAuthor(UserUtil.getUserIdFromAuthentication(authentication),
                 survey.getAuthorId());
@@ -140,12 +327,26 @@ public class SurveyService {
         if (survey.getStartedDate().isAfter(LocalDateTime.now(ZoneId.of("Asia/Seoul")))) {
             throw new BadRequestExceptionMapper(ErrorMessage.SURVEY_NOT_STARTED);
         }
+        return survey;
+    }
 
-        List<QuestionBank> questionBanks = questionService.getAllQuestionBankBySurveyId(surveyId);
-
-        List<QuestionBankAnswerDto> questionBankAnswerDtoList = getQuestionBankAnswerDtoList(questionBanks);
+    /**
+     * Recomputes the response counters of a survey from its answers.
+     */
+    @Transactional
+    public void rebuildResponseCounters(Long surveyId) {
+        getSurveyFromSurveyId(surveyId);
+        surveyResponseCounterService.rebuild(surveyId);
+        surveyResultCache.evict(surveyId);
+    }
 
-        return surveyMapper.toUserSurveyResultDto(survey, questionBankAnswerDtoList);
+    /**
+     * Rebuilds the index of the users who answered a survey from its answers.
+     */
+    @Transactional(readOnly = true)
+    public void rebuildParticipationIndex(Long surveyId) {
+        getSurveyFromSurveyId(surveyId);
+        surveyParticipationIndex.rebuild(surveyId);
     }
 
 //    @Lockable(key = "createSurveyLock")
@@ -160,7 +361,6 @@ public class SurveyService {
     }
 
     @Transactional
-    @CacheEvict(value = "surveyListCache", allEntries = true)
     public void deleteSurvey(Authentication authentication, Long surveyId) {
         User user = UserUtil.getUserFromAuthentication(authentication);
         Survey survey = getSurveyFromSurveyId(surveyId);
@@ -182,13 +382,20 @@ public class SurveyService {
         userRepository.save(user);
 
         pointHistoryService.savePointHistory(user, surveyCreatePoints);
+        evictSurveyListPagesFrom(survey);
+        surveyDetailService.evictSurveyResponseDto(surveyId);
         participationService.deleteParticipation(surveyId);
+        surveyResponseCounterService.delete(surveyId);
+        surveyResultCache.evict(surveyId);
+        surveyTelemetry.delete(surveyId);
+        textAnswerKeywordSketch.delete(surveyId);
+        surveyAnswerPlanCache.invalidate(surveyId);
+        surveyParticipationIndex.delete(surveyId);
         questionService.deleteQuestion(surveyId);
         surveyRepository.delete(survey);
     }
 
     @Transactional
-    @CacheEvict(value = "surveyListCache", allEntries = true)
     public SurveyResponseDto updateSurvey(SurveyUpdateRequestDto surveyUpdateRequestDto) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         Long userId = UserUtil.getUserIdFromAuthentication(authentication);
@@ -212,6 +419,14 @@ public class SurveyService {
         }
 
         questionService.updateQuestion(survey.getSurveyId(), surveyUpdateRequestDto.getQuestions());
+        List<QuestionBank> questionBanks = questionService.getAllQuestionBanksBySurveyId(survey.getSurveyId());
+        survey.changeRewardPoints(PointUtil.getSurveyMaxRewardPoints(questionBanks));
+        surveySearchService.refreshSearchText(survey, questionBanks);
+        surveyResponseCounterService.rebuild(survey.getSurveyId());
+        surveyResultCache.evict(survey.getSurveyId());
+        surveyListCacheIndex.evictPagesContaining(survey.getSurveyId());
+        surveyDetailService.evictSurveyResponseDto(survey.getSurveyId());
+        surveyAnswerPlanCache.invalidate(survey.getSurveyId());
         return surveyMapper.toSurveyResponseDto(survey, userId);
     }
 
@@ -247,102 +462,135 @@ public class SurveyService {
         }
     }
 
-    private Survey getSurveyFromSurveyId(Long surveyId) {
-        return surveyRepository.findBySurveyId(surveyId)
-                .orElseThrow(() -> new NotFoundExceptionMapper(ErrorMessage.SURVEY_NOT_FOUND));
-    }
-
-    private List<QuestionBankAnswerDto> getQuestionBankAnswerDtoList(List<QuestionBank> questionBankList) {
-        List<QuestionBankAnswerDto> questionBankAnswerDtoList = new ArrayList<>();
-        for (QuestionBank questionBank : questionBankList) {
-            QuestionType questionType = questionBank.getQuestionType();
-            Long questionBankId = questionBank.getQuestionBankId();
-            Integer questionNo = questionService.getQuestionNoByQuestionBankId(
-                    questionBank.getQuestionBankId());
-            List<AnsweredQuestion> answeredQuestionList = answeredQuestionService.getAnswerQuestionByQuestionBankId(
-                    questionBank.getQuestionBankId());
-
-            List<QuestionOptionAnswerDto> questionOptionAnswerDtoList = new ArrayList<>();
-            List<String> shortLongAnswerList = new ArrayList<>();
-
-            if (questionType == QuestionType.SINGLE_CHOICE || questionType == QuestionType.MULTIPLE_CHOICES) {
-                questionOptionAnswerDtoList = getQuestionOptionAnswerDtoList(questionBankId,
-                        questionType);
-            } else if (questionType == QuestionType.SHORT_ANSWER || questionType == QuestionType.LONG_ANSWER) {
-                shortLongAnswerList = getShortLongAnswerList(questionType, answeredQuestionList);
+    /**
+     * Removes the surveys that ended since the last run from the cached survey list pages, so a
+     * cached page does not keep showing ended surveys until its TTL expires.
+     */
+    @Scheduled(fixedDelay = 30000)
+    @Transactional(readOnly = true)
+    public void evictEndedSurveysFromListCache() {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        LocalDateTime from = surveyListCacheIndex.swapExpiryCheckpoint(now);
+        try {
+            List<Survey> endedSurveys = surveyRepository.findAllEndedBetween(from, now);
+            if (endedSurveys.isEmpty()) {
+                return;
             }
-
-            questionBankAnswerDtoList.add(questionBankMapper.toQuestionBankAnswerDto(questionBank,
-                    questionNo, shortLongAnswerList, questionOptionAnswerDtoList));
+            int firstPage = endedSurveys.stream()
+                    .mapToInt(this::getSurveyListPage)
+                    .min()
+                    .getAsInt();
+            log.info("Evicting survey list pages from {} for {} ended surveys", firstPage, endedSurveys.size());
+            surveyListCacheIndex.evictPagesFrom(firstPage, endedSurveys.size(), SURVEY_PAGE_SIZE);
+        } catch (RuntimeException e) {
+            // hand the window back so the next run evicts its surveys
+            surveyListCacheIndex.restoreExpiryCheckpoint(from, now);
+            throw e;
         }
-
-        return questionBankAnswerDtoList;
     }
 
     /**
-     * Returns a list of {@link QuestionOptionAnswerDto} containing the answer data
-     * for a given {@code Long questionBankId} and {@code QuestionType questionType}.
-     *
-     * @param questionBankId the ID of the question bank for which to retrieve answer data
-     * @param questionType  the type of question for which to retrieve answer data,
-     * either {@code QuestionType.SINGLE_CHOICE} or {@code QuestionType.MULTIPLE_CHOICES}
-     * @return {@code List<QuestionOptionAnswerDto>}
+     * Evicts the cached list pages shifted by deleting the survey: the page that contains it and
+     * every page after it.
      */
-    private List<QuestionOptionAnswerDto> getQuestionOptionAnswerDtoList(Long questionBankId,
-                                                                         QuestionType questionType) {
-        List<Long[]> answeredChoiceList = new ArrayList<>();
-        if (questionType == QuestionType.SINGLE_CHOICE) {
-            answeredChoiceList = answeredQuestionService.getSingleChoiceResult(
-                    questionBankId);
-        } else if (questionType == QuestionType.MULTIPLE_CHOICES) {
-            answeredChoiceList = answeredQuestionService.getMultipleChoiceResult(
-                    questionBankId);
+    private void evictSurveyListPagesFrom(Survey survey) {
+        // ended surveys are not shown in the list
+        if (!survey.getEndedDate().isAfter(LocalDateTime.now(ZoneId.of("Asia/Seoul")))) {
+            return;
         }
+        surveyListCacheIndex.evictPagesFrom(getSurveyListPage(survey), 1, SURVEY_PAGE_SIZE);
+    }
 
-        return answeredChoiceList.stream()
-                .map(answeredChoiceResult -> {
-                    Long questionOptionId = answeredChoiceResult[0];
-                    Long totalResponseCount = answeredChoiceResult[1];
-                    String option = questionOptionService.getOptionByQuestionOptionId(questionOptionId);
-                    return questionOptionMapper.toQuestionOptionAnswerDto(questionOptionId, option, totalResponseCount);
-                })
-                .collect(Collectors.toList());
+    /**
+     * Returns the list page that shows the survey, preferring the cached pages.
+     */
+    private int getSurveyListPage(Survey survey) {
+        Integer page = surveyListCacheIndex.findFirstPage(survey.getSurveyId());
+        if (page != null) {
+            return page;
+        }
+        long position = surveyRepository.countActiveSurveysNewerThan(survey.getCreatedDate(), survey.getSurveyId());
+        return (int) (position / SURVEY_PAGE_SIZE) + 1;
+    }
 
+    private Survey getSurveyFromSurveyId(Long surveyId) {
+        return surveyRepository.findBySurveyId(surveyId)
+                .orElseThrow(() -> new NotFoundExceptionMapper(ErrorMessage.SURVEY_NOT_FOUND));
     }
 
     /**
-     * Returns a list of short or long answer strings
-     * based on the provided {@code QuestionType questionType} and
-     * {@code List<AnsweredQuestion>answeredQuestionList}.
-     *
-     * @param questionType the type of question for which to retrieve answer data,
-     * either {@code QuestionType.SHORT_ANSWER} or {@code QuestionType.LONG_ANSWER}
-     * @param answeredQuestionList a list of {@code AnsweredQuestion}
-     * @return {@code List<String>}
+     * Builds the result of every question of a survey with a fixed number of queries: one for the
+     * questions, one for the maintained option counters of all choice questions and, only when the
+     * survey has text questions, one for their answer counts and one for the first
+     * {@value #TEXT_ANSWER_PREVIEW_SIZE} answers of each. The rest are paged by {@link TextAnswerService}.
+     * The preview fetches one answer more than it shows to tell whether there is a next page, since the
+     * count, read by a separate query, may already be out of date.
      */
-    private List<String> getShortLongAnswerList(QuestionType questionType,
-                                                List<AnsweredQuestion> answeredQuestionList) {
-
-        List<String> shortLongAnswerList = new ArrayList<>();
-        if (questionType == QuestionType.SHORT_ANSWER) {
-            shortLongAnswerList = getShortAnswerList(answeredQuestionList);
-        } else if (questionType == QuestionType.LONG_ANSWER) {
-            shortLongAnswerList = getLongAnswerList(answeredQuestionList);
+    private List<QuestionBankAnswerDto> getQuestionBankAnswerDtoList(Long surveyId) {
+        List<SurveyQuestionBankDto> questionBanks = questionRepository.findQuestionBanksBySurveyId(surveyId);
+
+        Map<Long, List<QuestionOptionAnswerDto>> optionAnswersByQuestionBankId = new HashMap<>();
+        if (questionBanks.stream().anyMatch(questionBank -> isChoiceQuestion(questionBank.getQuestionType()))) {
+            for (QuestionOptionCountDto optionCount : surveyResponseCounterService.getOptionCounts(surveyId)) {
+                optionAnswersByQuestionBankId
+                        .computeIfAbsent(optionCount.getQuestionBankId(), id -> new ArrayList<>())
+                        .add(questionOptionMapper.toQuestionOptionAnswerDto(optionCount.getQuestionOptionId(),
+                                optionCount.getOption(), optionCount.getResponseCount()));
+            }
         }
 
-        return shortLongAnswerList;
-    }
+        List<Long> textQuestionBankIds = questionBanks.stream()
+                .filter(questionBank -> !isChoiceQuestion(questionBank.getQuestionType()))
+                .map(SurveyQuestionBankDto::getQuestionBankId)
+                .collect(Collectors.toList());
+        Map<Long, List<TextAnswerDto>> textAnswersByQuestionBankId = new HashMap<>();
+        Map<Long, Long> textAnswerCounts = new HashMap<>();
+        if (!textQuestionBankIds.isEmpty()) {
+            for (TextAnswerCountDto textAnswerCount : answeredQuestionRepository.countTextAnswersBySurveyId(
+                    surveyId, textQuestionBankIds)) {
+                textAnswerCounts.put(textAnswerCount.getQuestionBankId(), textAnswerCount.getAnswerCount());
+            }
+            for (TextAnswerDto textAnswer : answeredQuestionRepository.findFirstTextAnswersBySurveyId(
+                    surveyId, textQuestionBankIds, TEXT_ANSWER_PREVIEW_SIZE + 1)) {
+                textAnswersByQuestionBankId
+                        .computeIfAbsent(textAnswer.getQuestionBankId(), id -> new ArrayList<>())
+                        .add(textAnswer);
+            }
+        }
 
-    private List<String> getShortAnswerList(List<AnsweredQuestion> answeredQuestionList) {
-        return answeredQuestionList.stream()
-                .map(AnsweredQuestion::getShortAnswer)
+        return questionBanks.stream()
+                .map(questionBank -> {
+                    Long questionBankId = questionBank.getQuestionBankId();
+                    if (isChoiceQuestion(questionBank.getQuestionType())) {
+                        return questionBankMapper.toQuestionBankAnswerDto(questionBank, new ArrayList<>(), null, null,
+                                null, optionAnswersByQuestionBankId.getOrDefault(questionBankId, new ArrayList<>()));
+                    }
+                    List<TextAnswerDto> textAnswers = textAnswersByQuestionBankId.getOrDefault(questionBankId, new ArrayList<>());
+                    long textAnswerCount = textAnswerCounts.getOrDefault(questionBankId, 0L);
+                    Long nextTextAnswerCursor = null;
+                    if (textAnswers.size() > TEXT_ANSWER_PREVIEW_SIZE) {
+                        textAnswers = textAnswers.subList(0, TEXT_ANSWER_PREVIEW_SIZE);
+                        nextTextAnswerCursor = textAnswers.get(TEXT_ANSWER_PREVIEW_SIZE - 1).getAnsweredQuestionId();
+                    }
+                    return questionBankMapper.toQuestionBankAnswerDto(questionBank,
+                            textAnswers.stream().map(TextAnswerDto::getAnswer).collect(Collectors.toList()),
+                            textAnswerCount, nextTextAnswerCursor, getTopKeywords(surveyId, questionBankId),
+                            new ArrayList<>());
+                })
                 .collect(Collectors.toList());
     }
 
-    private List<String> getLongAnswerList(List<AnsweredQuestion> answeredQuestionList) {
-        return answeredQuestionList.stream()
-                .map(AnsweredQuestion::getLongAnswer)
+    private List<TextAnswerKeywordDto> getTopKeywords(Long surveyId, Long questionBankId) {
+        return textAnswerKeywordSketch.getTopKeywords(surveyId, questionBankId, TOP_KEYWORD_SIZE).entrySet().stream()
+                .map(keyword -> TextAnswerKeywordDto.builder()
+                        .keyword(keyword.getKey())
+                        .estimatedCount(keyword.getValue())
+                        .build())
                 .collect(Collectors.toList());
     }
 
+    private boolean isChoiceQuestion(QuestionType questionType) {
+        return questionType == QuestionType.SINGLE_CHOICE || questionType == QuestionType.MULTIPLE_CHOICES;
+    }
+
 }
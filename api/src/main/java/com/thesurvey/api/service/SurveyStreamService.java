@@ -0,0 +1,156 @@
+package com.thesurvey.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.thesurvey.api.domain.EnumTypeEntity.CertificationType;
+import com.thesurvey.api.dto.response.survey.SurveyPageDto;
+import com.thesurvey.api.service.converter.CertificationTypeConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes every active survey as newline-delimited JSON.
+ * <p>
+ * Rows are read through a forward-only cursor with a bounded fetch size and written as they arrive,
+ * so memory stays flat regardless of the number of surveys. The query bypasses JPA to keep entities
+ * out of the persistence context.
+ */
+@Service
+public class SurveyStreamService {
+
+    static final int FETCH_SIZE = 500;
+
+    static final int FLUSH_INTERVAL = 100;
+
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    /**
+     * One row per survey and required certification of its author, grouped by survey so that a survey
+     * can be emitted as soon as the next one begins.
+     */
+    private static final String ACTIVE_SURVEYS_QUERY =
+        "SELECT s.survey_id, s.author_id, s.title, s.description, s.started_date, s.ended_date, "
+            + "s.created_date, s.modified_date, s.reward_points, p.certification_type "
+            + "FROM survey s LEFT JOIN participation p ON p.survey_id = s.survey_id AND p.user_id = s.author_id "
+            + "WHERE s.ended_date > ? "
+            + "ORDER BY s.created_date DESC, s.survey_id DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectWriter objectWriter;
+
+    public SurveyStreamService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectWriter = objectMapper.writerFor(SurveyPageDto.class);
+    }
+
+    /**
+     * Runs in a read-only transaction since PostgreSQL only honours the fetch size with auto-commit
+     * disabled; otherwise the driver would buffer the whole result.
+     *
+     * @return the number of surveys written
+     */
+    @Transactional(readOnly = true)
+    public long writeActiveSurveys(OutputStream outputStream) {
+        SurveyRowWriter rowWriter = new SurveyRowWriter(outputStream);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(ACTIVE_SURVEYS_QUERY,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now(ZoneId.of("Asia/Seoul"))));
+            return statement;
+        }, rowWriter);
+        rowWriter.finish();
+        return rowWriter.written;
+    }
+
+    private class SurveyRowWriter implements RowCallbackHandler {
+
+        private final OutputStream outputStream;
+
+        private SurveyPageDto.SurveyPageDtoBuilder current;
+
+        private Long currentSurveyId;
+
+        private List<Integer> certificationTypes = new ArrayList<>();
+
+        private long written;
+
+        SurveyRowWriter(OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long surveyId = rs.getLong("survey_id");
+            if (currentSurveyId == null || currentSurveyId != surveyId) {
+                writeCurrent();
+                currentSurveyId = surveyId;
+                current = SurveyPageDto.builder()
+                    .surveyId(surveyId)
+                    .authorId(rs.getLong("author_id"))
+                    .title(rs.getString("title"))
+                    .description(rs.getString("description"))
+                    .startedDate(toLocalDateTime(rs.getTimestamp("started_date")))
+                    .endedDate(toLocalDateTime(rs.getTimestamp("ended_date")))
+                    .createdDate(toLocalDateTime(rs.getTimestamp("created_date")))
+                    .modifiedDate(toLocalDateTime(rs.getTimestamp("modified_date")))
+                    .rewardPoints(rs.getInt("reward_points"));
+            }
+            int certificationType = rs.getInt("certification_type");
+            if (!rs.wasNull()) {
+                certificationTypes.add(certificationType);
+            }
+        }
+
+        void finish() {
+            writeCurrent();
+            try {
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeCurrent() {
+            if (current == null) {
+                return;
+            }
+            List<CertificationType> converted =
+                certificationTypes.contains(CertificationType.NONE.getCertificationTypeId())
+                    ? Collections.emptyList()
+                    : CertificationTypeConverter.toCertificationTypeList(certificationTypes);
+            try {
+                // a failed write means the client went away; the exception aborts the query
+                outputStream.write(objectWriter.writeValueAsBytes(current.certificationTypes(converted).build()));
+                outputStream.write(LINE_SEPARATOR);
+                if (++written % FLUSH_INTERVAL == 0) {
+                    outputStream.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            current = null;
+            certificationTypes = new ArrayList<>();
+        }
+
+        private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+            return timestamp == null ? null : timestamp.toLocalDateTime();
+        }
+    }
+}
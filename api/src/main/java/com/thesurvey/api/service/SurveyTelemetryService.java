@@ -0,0 +1,91 @@
+package com.thesurvey.api.service;
+
+import com.thesurvey.api.cache.SurveyTelemetry;
+import com.thesurvey.api.cache.SurveyTelemetry.CompletionHistogram;
+import com.thesurvey.api.dto.response.user.CompletionTimeBucketDto;
+import com.thesurvey.api.dto.response.user.SubmissionRateDto;
+import com.thesurvey.api.dto.response.user.UserSurveyTelemetryDto;
+import com.thesurvey.api.exception.ErrorMessage;
+import com.thesurvey.api.exception.mapper.BadRequestExceptionMapper;
+import com.thesurvey.api.repository.UserRepository;
+import com.thesurvey.api.util.HistogramUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the response telemetry of a survey from {@link SurveyTelemetry}, at a cost independent of
+ * the number of responses.
+ */
+@Service
+@RequiredArgsConstructor
+public class SurveyTelemetryService {
+
+    public static final int DEFAULT_MINUTES = 60;
+
+    private final SurveyService surveyService;
+
+    private final SurveyTelemetry surveyTelemetry;
+
+    private final UserRepository userRepository;
+
+    /**
+     * Remembers when the current user first opened the survey, to measure their completion time.
+     * Callers that are not registered users are ignored.
+     */
+    public void markStarted(Long surveyId, Authentication authentication) {
+        if (authentication == null) {
+            return;
+        }
+        userRepository.findByName(authentication.getName())
+            .ifPresent(user -> surveyTelemetry.markStarted(surveyId, user.getUserId()));
+    }
+
+    public UserSurveyTelemetryDto getSurveyTelemetry(Long surveyId, Integer minutes) {
+        surveyService.validateSurveyResultAccess(surveyId);
+        int window = minutes == null ? DEFAULT_MINUTES : minutes;
+        if (window <= 0 || window > SurveyTelemetry.RING_MINUTES) {
+            throw new BadRequestExceptionMapper(ErrorMessage.INVALID_REQUEST);
+        }
+
+        long now = System.currentTimeMillis();
+        long[] counts = surveyTelemetry.getSubmissionsPerMinute(surveyId, now, window);
+        long firstMinute = TimeUnit.MILLISECONDS.toMinutes(now) - window + 1;
+        List<SubmissionRateDto> submissionsPerMinute = new ArrayList<>(window);
+        for (int i = 0; i < window; i++) {
+            submissionsPerMinute.add(SubmissionRateDto.builder()
+                .minute(LocalDateTime.ofInstant(Instant.ofEpochSecond(TimeUnit.MINUTES.toSeconds(firstMinute + i)),
+                    ZoneId.of("Asia/Seoul")))
+                .submissionCount(counts[i])
+                .build());
+        }
+
+        CompletionHistogram histogram = surveyTelemetry.getCompletionHistogram(surveyId);
+        List<CompletionTimeBucketDto> buckets = new ArrayList<>();
+        for (Map.Entry<Integer, Long> bucket : histogram.getCounts().entrySet()) {
+            buckets.add(CompletionTimeBucketDto.builder()
+                .lowerBoundSeconds(HistogramUtil.bucketLowerBound(bucket.getKey()))
+                .upperBoundSeconds(HistogramUtil.bucketUpperBound(bucket.getKey()))
+                .count(bucket.getValue())
+                .build());
+        }
+
+        return UserSurveyTelemetryDto.builder()
+            .surveyId(surveyId)
+            .submissionsPerMinute(submissionsPerMinute)
+            .completionCount(histogram.getTotalCount())
+            .completionP50Seconds(histogram.percentile(50))
+            .completionP90Seconds(histogram.percentile(90))
+            .completionP99Seconds(histogram.percentile(99))
+            .completionTimeBuckets(buckets)
+            .build();
+    }
+}
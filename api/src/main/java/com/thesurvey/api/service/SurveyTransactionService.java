@@ -1,6 +1,10 @@
 package com.thesurvey.api.service;
 
+import com.thesurvey.api.cache.SurveyListCacheIndex;
+import com.thesurvey.api.cache.SurveyParticipationIndex;
+import com.thesurvey.api.cache.SurveyResultCache;
 import com.thesurvey.api.domain.EnumTypeEntity;
+import com.thesurvey.api.domain.QuestionBank;
 import com.thesurvey.api.domain.Survey;
 import com.thesurvey.api.domain.User;
 import com.thesurvey.api.dto.request.survey.SurveyRequestDto;
@@ -12,7 +16,6 @@ import com.thesurvey.api.repository.UserRepository;
 import com.thesurvey.api.service.mapper.SurveyMapper;
 import com.thesurvey.api.util.PointUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,9 +35,13 @@ public class SurveyTransactionService {
     private final SurveyMapper surveyMapper;
     private final ParticipationService participationService;
     private final UserRepository userRepository;
+    private final SurveyListCacheIndex surveyListCacheIndex;
+    private final SurveySearchService surveySearchService;
+    private final SurveyResponseCounterService surveyResponseCounterService;
+    private final SurveyResultCache surveyResultCache;
+    private final SurveyParticipationIndex surveyParticipationIndex;
 
     @Transactional(isolation = Isolation.REPEATABLE_READ)
-    @CacheEvict(value = "surveyListCache", allEntries = true)
     public SurveyResponseDto createSurveyTransactional(SurveyRequestDto surveyRequestDto, User user,
                                                        List<EnumTypeEntity.CertificationType> certificationTypes) {
         validateCreateSurvey(surveyRequestDto, user);
@@ -45,7 +52,17 @@ public class SurveyTransactionService {
         pointHistoryService.savePointHistory(user, -surveyCreatePoints);
         Survey survey = surveyRepository.save(surveyMapper.toSurvey(surveyRequestDto, user.getUserId()));
         questionService.createQuestion(surveyRequestDto.getQuestions(), survey);
+        List<QuestionBank> questionBanks = questionService.getAllQuestionBanksBySurveyId(survey.getSurveyId());
+        survey.changeRewardPoints(PointUtil.getSurveyMaxRewardPoints(questionBanks));
+        surveySearchService.refreshSearchText(survey, questionBanks);
+        surveyResponseCounterService.rebuild(survey.getSurveyId());
+        // ids restart when the schema is recreated, so never trust a result cached under this id
+        surveyResultCache.evict(survey.getSurveyId());
+        surveyParticipationIndex.initialize(survey.getSurveyId());
         participationService.createParticipation(user, certificationTypes, survey);
+
+        // a new survey is shown first and shifts every page
+        surveyListCacheIndex.evictAll();
         return surveyMapper.toSurveyResponseDto(survey, user.getUserId());
     }
 
@@ -0,0 +1,158 @@
+package com.thesurvey.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.thesurvey.api.domain.EnumTypeEntity.QuestionType;
+import com.thesurvey.api.domain.Question;
+import com.thesurvey.api.dto.projection.TextAnswerDto;
+import com.thesurvey.api.dto.response.answeredQuestion.TextAnswerPageDto;
+import com.thesurvey.api.dto.response.answeredQuestion.TextAnswerResponseDto;
+import com.thesurvey.api.exception.ErrorMessage;
+import com.thesurvey.api.exception.mapper.BadRequestExceptionMapper;
+import com.thesurvey.api.repository.AnsweredQuestionRepository;
+import com.thesurvey.api.repository.QuestionRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the short and long answers to a single question of a survey, either a keyset page at a time
+ * or as a newline-delimited JSON stream, so that a question with many answers is never loaded at once.
+ */
+@Service
+public class TextAnswerService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    private static final String TEXT_ANSWERS_QUERY =
+        "SELECT aq.answered_question_id, aq.short_answer, aq.long_answer FROM answered_question aq "
+            + "WHERE aq.survey_id = ? AND aq.question_bank_id = ? "
+            + "AND (aq.short_answer IS NOT NULL OR aq.long_answer IS NOT NULL) "
+            + "ORDER BY aq.answered_question_id ASC";
+
+    private final SurveyService surveyService;
+
+    private final QuestionRepository questionRepository;
+
+    private final AnsweredQuestionRepository answeredQuestionRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectWriter objectWriter;
+
+    public TextAnswerService(SurveyService surveyService, QuestionRepository questionRepository,
+        AnsweredQuestionRepository answeredQuestionRepository, JdbcTemplate jdbcTemplate,
+        ObjectMapper objectMapper) {
+        this.surveyService = surveyService;
+        this.questionRepository = questionRepository;
+        this.answeredQuestionRepository = answeredQuestionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectWriter = objectMapper.writerFor(TextAnswerResponseDto.class);
+    }
+
+    /**
+     * Returns the answers following {@code cursor}, oldest first. One extra row is read to tell
+     * whether another page exists.
+     */
+    @Transactional(readOnly = true)
+    public TextAnswerPageDto getTextAnswerPage(Long surveyId, Long questionBankId, Long cursor, Integer size) {
+        validateTextQuestion(surveyId, questionBankId);
+        if (cursor != null && cursor < 0) {
+            throw new BadRequestExceptionMapper(ErrorMessage.INVALID_CURSOR);
+        }
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        if (pageSize <= 0) {
+            throw new BadRequestExceptionMapper(ErrorMessage.POSITIVE_VALUE_REQUIRED, "size");
+        }
+
+        List<TextAnswerDto> textAnswers = answeredQuestionRepository.findTextAnswersAfterCursor(surveyId,
+            questionBankId, cursor == null ? 0L : cursor, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = textAnswers.size() > pageSize;
+        if (hasNext) {
+            textAnswers = textAnswers.subList(0, pageSize);
+        }
+        return TextAnswerPageDto.builder()
+            .answers(textAnswers.stream()
+                .map(textAnswer -> toTextAnswerResponseDto(textAnswer.getAnsweredQuestionId(), textAnswer.getAnswer()))
+                .collect(Collectors.toList()))
+            .nextCursor(hasNext ? textAnswers.get(pageSize - 1).getAnsweredQuestionId() : null)
+            .build();
+    }
+
+    /**
+     * Writes every answer to the question as one JSON object per line. Like
+     * {@link SurveyStreamService#writeActiveSurveys}, rows come through a forward-only cursor with a
+     * bounded fetch size inside a read-only transaction, so at most one fetch window is held in memory.
+     * The question must have been checked with {@link #validateTextQuestion} before the response is
+     * committed.
+     *
+     * @return the number of answers written
+     */
+    @Transactional(readOnly = true)
+    public long writeTextAnswers(Long surveyId, Long questionBankId, OutputStream outputStream) {
+        long[] written = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(TEXT_ANSWERS_QUERY,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(SurveyStreamService.FETCH_SIZE);
+            statement.setLong(1, surveyId);
+            statement.setLong(2, questionBankId);
+            return statement;
+        }, rs -> {
+            String shortAnswer = rs.getString("short_answer");
+            TextAnswerResponseDto textAnswer = toTextAnswerResponseDto(rs.getLong("answered_question_id"),
+                shortAnswer != null ? shortAnswer : rs.getString("long_answer"));
+            try {
+                // a failed write means the client went away; the exception aborts the query
+                outputStream.write(objectWriter.writeValueAsBytes(textAnswer));
+                outputStream.write(LINE_SEPARATOR);
+                if (++written[0] % SurveyStreamService.FLUSH_INTERVAL == 0) {
+                    outputStream.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        try {
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return written[0];
+    }
+
+    /**
+     * Validates that the current user may read the results of the survey and that the question is a
+     * short or long answer question of it.
+     */
+    @Transactional(readOnly = true)
+    public void validateTextQuestion(Long surveyId, Long questionBankId) {
+        surveyService.validateSurveyResultAccess(surveyId);
+        Question question = questionRepository.findBySurveyIdAndQuestionBankId(surveyId, questionBankId)
+            .orElseThrow(() -> new BadRequestExceptionMapper(ErrorMessage.NOT_SURVEY_QUESTION));
+        QuestionType questionType = question.getQuestionId().getQuestionBank().getQuestionType();
+        if (questionType == QuestionType.SINGLE_CHOICE || questionType == QuestionType.MULTIPLE_CHOICES) {
+            throw new BadRequestExceptionMapper(ErrorMessage.INVALID_QUESTION_TYPE);
+        }
+    }
+
+    private TextAnswerResponseDto toTextAnswerResponseDto(Long answeredQuestionId, String answer) {
+        return TextAnswerResponseDto.builder()
+            .answeredQuestionId(answeredQuestionId)
+            .answer(answer)
+            .build();
+    }
+}
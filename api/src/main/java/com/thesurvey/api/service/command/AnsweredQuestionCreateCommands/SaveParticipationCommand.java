@@ -8,6 +8,7 @@ import com.thesurvey.api.service.command.Command;
 import com.thesurvey.api.service.converter.CertificationTypeConverter;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -17,11 +18,12 @@ public class SaveParticipationCommand implements Command {
     private final User user;
     private final Survey survey;
     private final List<Integer> surveyCertificationList;
+    private final LocalDateTime participateDate;
 
     @Override
     public void execute() {
         List<EnumTypeEntity.CertificationType> certificationTypeList = getCertificationTypeList(surveyCertificationList);
-        participationService.createParticipation(user, certificationTypeList, survey);
+        participationService.createParticipation(user, certificationTypeList, survey, participateDate);
     }
 
     private List<EnumTypeEntity.CertificationType> getCertificationTypeList(List<Integer> surveyCertificationList) {
@@ -1,12 +1,12 @@
 package com.thesurvey.api.service.command.AnsweredQuestionCreateCommands;
 
+import com.thesurvey.api.cache.SurveyParticipationIndex;
 import com.thesurvey.api.domain.EnumTypeEntity;
 import com.thesurvey.api.domain.Survey;
 import com.thesurvey.api.domain.User;
 import com.thesurvey.api.exception.ErrorMessage;
 import com.thesurvey.api.exception.mapper.ForbiddenRequestExceptionMapper;
 import com.thesurvey.api.exception.mapper.UnauthorizedRequestExceptionMapper;
-import com.thesurvey.api.repository.AnsweredQuestionRepository;
 import com.thesurvey.api.repository.UserCertificationRepository;
 import com.thesurvey.api.service.command.Command;
 import lombok.RequiredArgsConstructor;
@@ -22,7 +22,7 @@ import java.util.List;
 public class ValidateUserCertificationCommand implements Command {
 
     private final UserCertificationRepository userCertificationRepository;
-    private final AnsweredQuestionRepository answeredQuestionRepository;
+    private final SurveyParticipationIndex surveyParticipationIndex;
     private final List<Integer> surveyCertificationList;
     private final User user;
     private final Survey survey;
@@ -49,8 +49,7 @@ public class ValidateUserCertificationCommand implements Command {
 
     private void validateCreateAnswerRequest(User user, Survey survey) {
         // validate if a user has already responded to the survey
-        if (answeredQuestionRepository.existsByUserIdAndSurveyId(user.getUserId(),
-                survey.getSurveyId())) {
+        if (surveyParticipationIndex.hasAnswered(survey.getSurveyId(), user.getUserId())) {
             log.warn("User: {} has already submitted answers for survey: {}", user.getUserId(), survey.getSurveyId());
             throw new ForbiddenRequestExceptionMapper(ErrorMessage.ANSWER_ALREADY_SUBMITTED);
         }
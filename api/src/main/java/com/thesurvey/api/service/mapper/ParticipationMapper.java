@@ -15,11 +15,16 @@ public class ParticipationMapper {
 
     public Participation toParticipation(User user, Survey survey,
         CertificationType certificationType) {
+        return toParticipation(user, survey, certificationType, LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+    }
+
+    public Participation toParticipation(User user, Survey survey,
+        CertificationType certificationType, LocalDateTime participateDate) {
         return Participation.builder()
             .user(user)
             .survey(survey)
             .certificationType(certificationType)
-            .participateDate(LocalDateTime.now(ZoneId.of("Asia/Seoul")))
+            .participateDate(participateDate)
             .submittedDate(LocalDateTime.now(ZoneId.of("Asia/Seoul")))
             .build();
     }
@@ -3,14 +3,13 @@ package com.thesurvey.api.service.mapper;
 import java.util.List;
 
 import com.thesurvey.api.domain.QuestionBank;
+import com.thesurvey.api.dto.projection.SurveyQuestionBankDto;
 import com.thesurvey.api.dto.request.question.QuestionRequestDto;
 import com.thesurvey.api.dto.response.question.QuestionBankAnswerDto;
 import com.thesurvey.api.dto.response.question.QuestionBankResponseDto;
 import com.thesurvey.api.dto.response.question.QuestionOptionAnswerDto;
 import com.thesurvey.api.dto.response.question.QuestionOptionResponseDto;
-import com.thesurvey.api.exception.ErrorMessage;
-import com.thesurvey.api.exception.mapper.NotFoundExceptionMapper;
-import com.thesurvey.api.repository.QuestionRepository;
+import com.thesurvey.api.dto.response.question.TextAnswerKeywordDto;
 import com.thesurvey.api.util.StringUtil;
 
 import org.springframework.stereotype.Component;
@@ -18,10 +17,6 @@ import org.springframework.stereotype.Component;
 @Component
 public class QuestionBankMapper {
 
-    private final QuestionRepository questionRepository;
-
-    public QuestionBankMapper(QuestionRepository questionRepository) {this.questionRepository = questionRepository;}
-
     public QuestionBank toQuestionBank(QuestionRequestDto questionRequestDto) {
         return QuestionBank.builder()
             .title(StringUtil.trim(questionRequestDto.getTitle()))
@@ -30,9 +25,8 @@ public class QuestionBankMapper {
             .build();
     }
 
-    public QuestionBankResponseDto toQuestionBankResponseDto(QuestionBank questionBank,
+    public QuestionBankResponseDto toQuestionBankResponseDto(QuestionBank questionBank, Boolean isRequired,
         List<QuestionOptionResponseDto> questionOptionResponseDtoList) {
-        Boolean isRequired = getIsRequiredByQuestionBankId(questionBank.getQuestionBankId());
         return QuestionBankResponseDto.builder()
             .questionBankId(questionBank.getQuestionBankId())
             .title(questionBank.getTitle())
@@ -59,9 +53,21 @@ public class QuestionBankMapper {
             .build();
     }
 
-    private Boolean getIsRequiredByQuestionBankId(Long questionBankId) {
-        return questionRepository.findIsRequiredByQuestionBankId(questionBankId)
-            .orElseThrow(() -> new NotFoundExceptionMapper(ErrorMessage.QUESTION_NOT_FOUND));
+    public QuestionBankAnswerDto toQuestionBankAnswerDto(SurveyQuestionBankDto questionBank,
+        List<String> shortLongAnswerList, Long textAnswerCount, Long nextTextAnswerCursor,
+        List<TextAnswerKeywordDto> topKeywords, List<QuestionOptionAnswerDto> questionOptionAnswerDtoList) {
+        return QuestionBankAnswerDto.builder()
+            .questionBankId(questionBank.getQuestionBankId())
+            .questionTitle(questionBank.getTitle())
+            .questionDescription(questionBank.getDescription())
+            .questionType(questionBank.getQuestionType())
+            .questionNo(questionBank.getQuestionNo())
+            .textAnswers(shortLongAnswerList)
+            .textAnswerCount(textAnswerCount)
+            .nextTextAnswerCursor(nextTextAnswerCursor)
+            .topKeywords(topKeywords)
+            .optionAnswers(questionOptionAnswerDtoList)
+            .build();
     }
 
 }
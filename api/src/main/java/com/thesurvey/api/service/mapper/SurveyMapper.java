@@ -3,9 +3,11 @@ package com.thesurvey.api.service.mapper;
 import com.thesurvey.api.domain.EnumTypeEntity.CertificationType;
 import com.thesurvey.api.domain.QuestionBank;
 import com.thesurvey.api.domain.Survey;
+import com.thesurvey.api.dto.projection.SurveyCertificationTypeDto;
 import com.thesurvey.api.dto.request.survey.SurveyRequestDto;
 import com.thesurvey.api.dto.response.question.QuestionBankAnswerDto;
 import com.thesurvey.api.dto.response.question.QuestionBankResponseDto;
+import com.thesurvey.api.dto.response.survey.SurveyCursorPageDto;
 import com.thesurvey.api.dto.response.survey.SurveyListPageDto;
 import com.thesurvey.api.dto.response.survey.SurveyPageDto;
 import com.thesurvey.api.dto.response.survey.SurveyResponseDto;
@@ -19,7 +21,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 public class SurveyMapper {
@@ -58,6 +64,7 @@ public class SurveyMapper {
             .certificationTypes(getConvertedCertificationTypes(survey.getSurveyId(), survey.getAuthorId()))
             .questions(questionBankResponseDtoList)
             .rewardPoints(maxRewardPoints)
+            .version(UUID.randomUUID().toString())
             .build();
     }
 
@@ -72,9 +79,33 @@ public class SurveyMapper {
             .build();
     }
 
-    public SurveyPageDto toSurveyPageDto(Survey survey) {
-        List<QuestionBank> questionBankList = questionService.getAllQuestionBanksBySurveyId(survey.getSurveyId());
-        int maxRewardPoints = PointUtil.getSurveyMaxRewardPoints(questionBankList);
+    /**
+     * Maps a page of surveys to {@link SurveyPageDto}s. Reward points are stored on the survey and
+     * the certification types of every survey are fetched together, so the number of statements
+     * does not depend on the page size.
+     */
+    public List<SurveyPageDto> toSurveyPageDtoList(List<Survey> surveys) {
+        if (surveys.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> surveyIds = surveys.stream().map(Survey::getSurveyId).collect(Collectors.toList());
+
+        Map<Long, List<CertificationType>> certificationTypesMap = new HashMap<>();
+        for (SurveyCertificationTypeDto certificationType : surveyRepository.findCertificationTypesBySurveyIds(surveyIds)) {
+            certificationTypesMap.computeIfAbsent(certificationType.getSurveyId(), surveyId -> new ArrayList<>())
+                .add(certificationType.getCertificationType());
+        }
+
+        return surveys.stream()
+            .map(survey -> toSurveyPageDto(survey,
+                certificationTypesMap.getOrDefault(survey.getSurveyId(), new ArrayList<>())))
+            .collect(Collectors.toList());
+    }
+
+    private SurveyPageDto toSurveyPageDto(Survey survey, List<CertificationType> certificationTypes) {
+        if (certificationTypes.contains(CertificationType.NONE)) {
+            certificationTypes = new ArrayList<>();
+        }
         return SurveyPageDto.builder()
             .surveyId(survey.getSurveyId())
             .authorId(survey.getAuthorId())
@@ -83,9 +114,9 @@ public class SurveyMapper {
             .startedDate(survey.getStartedDate())
             .createdDate(survey.getCreatedDate())
             .endedDate(survey.getEndedDate())
-            .certificationTypes(getConvertedCertificationTypes(survey.getSurveyId(), survey.getAuthorId()))
+            .certificationTypes(certificationTypes)
             .modifiedDate(survey.getModifiedDate())
-            .rewardPoints(maxRewardPoints)
+            .rewardPoints(survey.getRewardPoints())
             .build();
     }
 
@@ -96,13 +127,25 @@ public class SurveyMapper {
             .page(surveyPage.getPageable().getPageNumber() + 1)
             .totalSurveys(surveyPage.getTotalElements())
             .totalPages(surveyPage.getTotalPages())
+            .version(UUID.randomUUID().toString())
+            .build();
+    }
+
+    public SurveyCursorPageDto toSurveyCursorPageDto(List<SurveyPageDto> surveyPageDto,
+        String nextCursor, String prevCursor) {
+        return SurveyCursorPageDto.builder()
+            .surveys(surveyPageDto)
+            .nextCursor(nextCursor)
+            .prevCursor(prevCursor)
             .build();
     }
 
-    public UserSurveyResultDto toUserSurveyResultDto(Survey survey, List<QuestionBankAnswerDto> questionBankAnswerDtoList) {
+    public UserSurveyResultDto toUserSurveyResultDto(Survey survey, long respondentCount,
+        List<QuestionBankAnswerDto> questionBankAnswerDtoList) {
         return UserSurveyResultDto.builder()
             .surveyId(survey.getSurveyId())
             .surveyTitle(survey.getTitle())
+            .respondentCount(respondentCount)
             .results(questionBankAnswerDtoList)
             .build();
     }
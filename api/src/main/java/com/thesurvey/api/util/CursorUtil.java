@@ -0,0 +1,80 @@
+package com.thesurvey.api.util;
+
+import com.thesurvey.api.exception.ErrorMessage;
+import com.thesurvey.api.exception.mapper.BadRequestExceptionMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.function.BiFunction;
+
+/**
+ * Encodes and decodes the opaque cursor used by keyset pagination.
+ * A cursor points at a single row by its {@code (createdDate, surveyId)} key, or by its
+ * {@code (rank, surveyId)} key for search results.
+ */
+public class CursorUtil {
+
+    private static final String DELIMITER = "|";
+
+    public static String encode(LocalDateTime createdDate, Long surveyId) {
+        return encode(createdDate.toString(), surveyId);
+    }
+
+    public static Cursor decode(String cursor) {
+        return decode(cursor, (key, surveyId) -> new Cursor(LocalDateTime.parse(key), surveyId));
+    }
+
+    public static String encodeRank(float rank, Long surveyId) {
+        return encode(Float.toString(rank), surveyId);
+    }
+
+    public static RankCursor decodeRank(String cursor) {
+        return decode(cursor, (key, surveyId) -> new RankCursor(Float.parseFloat(key), surveyId));
+    }
+
+    private static String encode(String key, Long surveyId) {
+        String raw = key + DELIMITER + surveyId;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Splits the cursor into its leading key and survey ID and hands them to {@code toCursor},
+     * which may throw {@link IllegalArgumentException} or {@link DateTimeParseException} for a
+     * malformed key.
+     */
+    private static <T> T decode(String cursor, BiFunction<String, Long, T> toCursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new BadRequestExceptionMapper(ErrorMessage.INVALID_CURSOR);
+            }
+            return toCursor.apply(raw.substring(0, index), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestExceptionMapper(ErrorMessage.INVALID_CURSOR);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Cursor {
+
+        private final LocalDateTime createdDate;
+
+        private final Long surveyId;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class RankCursor {
+
+        private final float rank;
+
+        private final Long surveyId;
+    }
+}
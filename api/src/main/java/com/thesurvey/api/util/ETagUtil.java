@@ -0,0 +1,25 @@
+package com.thesurvey.api.util;
+
+/**
+ * Builds strong ETags from the version stamped on a cached response, and matches them against
+ * the {@code If-None-Match} request header.
+ */
+public class ETagUtil {
+
+    public static String toETag(String version) {
+        return "\"" + version + "\"";
+    }
+
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(eTag) || trimmed.equals("W/" + eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
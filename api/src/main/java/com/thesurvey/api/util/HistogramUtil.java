@@ -0,0 +1,39 @@
+package com.thesurvey.api.util;
+
+/**
+ * Maps non-negative values to log-linear histogram buckets, in the manner of HdrHistogram.
+ * Values below {@value #LINEAR_LIMIT} get a bucket each; above that every power of two is split into
+ * eight equal sub-buckets, so a bucket is never wider than 12.5% of its lower bound.
+ */
+public class HistogramUtil {
+
+    static final int LINEAR_LIMIT = 16;
+
+    private static final int SUB_BUCKET_BITS = 3;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private static final int LINEAR_MAGNITUDE = 4;
+
+    public static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) Math.max(0, value);
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) ((value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+        return LINEAR_LIMIT + (magnitude - LINEAR_MAGNITUDE) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    public static long bucketLowerBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int magnitude = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + LINEAR_MAGNITUDE;
+        int subBucket = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT;
+        return (long) (SUB_BUCKET_COUNT + subBucket) << (magnitude - SUB_BUCKET_BITS);
+    }
+
+    public static long bucketUpperBound(int index) {
+        return bucketLowerBound(index + 1) - 1;
+    }
+}
@@ -0,0 +1,72 @@
+package com.thesurvey.api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Splits text answers into the keywords counted by the keyword summary, and hashes them into the
+ * rows of a Count-Min sketch.
+ */
+public class KeywordUtil {
+
+    static final int MIN_TOKEN_LENGTH = 2;
+
+    static final int MAX_KEYWORD_LENGTH = 40;
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * @return the distinct tokens of the text and the phrases of two adjacent tokens, lower-cased, in
+     * order of appearance
+     */
+    public static Set<String> extractKeywords(String text) {
+        Set<String> keywords = new LinkedHashSet<>();
+        if (text == null) {
+            return keywords;
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (token.length() >= MIN_TOKEN_LENGTH && token.length() <= MAX_KEYWORD_LENGTH) {
+                tokens.add(token);
+            }
+        }
+        for (int i = 0; i < tokens.size(); i++) {
+            keywords.add(tokens.get(i));
+            if (i + 1 < tokens.size()) {
+                String phrase = tokens.get(i) + " " + tokens.get(i + 1);
+                if (phrase.length() <= MAX_KEYWORD_LENGTH) {
+                    keywords.add(phrase);
+                }
+            }
+        }
+        return keywords;
+    }
+
+    /**
+     * Derives one counter offset per sketch row from a single 64-bit FNV-1a hash, taking its halves as
+     * two independent hashes. Row {@code i} owns the offsets {@code [i * width, (i + 1) * width)}.
+     */
+    public static int[] sketchOffsets(String keyword, int depth, int width) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : keyword.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        int[] offsets = new int[depth];
+        for (int row = 0; row < depth; row++) {
+            offsets[row] = row * width + Math.floorMod(hash1 + row * hash2, width);
+        }
+        return offsets;
+    }
+}
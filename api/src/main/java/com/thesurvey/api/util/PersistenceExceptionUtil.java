@@ -0,0 +1,28 @@
+package com.thesurvey.api.util;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+public class PersistenceExceptionUtil {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    /**
+     * Whether the exception was raised by the primary key of {@code participation}, the only unique
+     * constraint of the table, so the user's answers to the survey are stored already. PostgreSQL names
+     * the constraint {@code participation_pkey}, while H2 reports the index and its table.
+     */
+    public static boolean isDuplicateParticipation(DataIntegrityViolationException exception) {
+        for (Throwable cause = exception.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                ConstraintViolationException violation = (ConstraintViolationException) cause;
+                return UNIQUE_VIOLATION.equals(violation.getSQLState())
+                    && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains("participation");
+            }
+        }
+        return false;
+    }
+}
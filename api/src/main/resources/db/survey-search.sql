@@ -0,0 +1,4 @@
+-- Full-text search index for surveys (PostgreSQL 12+), run by Hibernate after the schema is created.
+-- search_vector is derived from survey.search_text, which the application keeps up to date.
+ALTER TABLE survey ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (to_tsvector('simple', coalesce(search_text, ''))) STORED;
+CREATE INDEX idx_survey_search_vector ON survey USING GIN (search_vector);
@@ -0,0 +1,70 @@
+package com.thesurvey.api.cache;
+
+import com.thesurvey.api.cache.SurveyResponseCube.CrossTab;
+import com.thesurvey.api.domain.EnumTypeEntity.QuestionType;
+import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SurveyResponseCubeTest {
+
+    // question 1 is single choice with options 10, 11; question 2 is multiple choice with options 20, 21, 22
+    private SurveyResponseCube newCube() {
+        SurveyResponseCube cube = new SurveyResponseCube(new long[]{1, 2},
+            new long[][]{{10, 11}, {20, 21, 22}},
+            new String[][]{{"yes", "no"}, {"a", "b", "c"}},
+            new boolean[]{false, true}, 0);
+        cube.add(100, 10);
+        cube.add(100, 20);
+        cube.add(100, 22);
+        cube.add(101, 11);
+        cube.add(101, 22);
+        cube.add(102, 10);
+        return cube;
+    }
+
+    @Test
+    void testCrossTab() {
+        CrossTab crossTab = newCube().crossTab(new int[]{0, 1}, new long[2][]);
+
+        assertThat(crossTab.getMatchedCount()).isEqualTo(3);
+        // row-major: (yes, a), (yes, b), (yes, c), (no, a), (no, b), (no, c)
+        assertThat(crossTab.getCells()).containsExactly(1, 0, 1, 0, 0, 1);
+    }
+
+    @Test
+    void testFilteredDistribution() {
+        SurveyResponseCube cube = newCube();
+        long[][] filters = new long[2][];
+        filters[1] = cube.newFilter(1);
+        filters[1][0] |= 1L << 2;
+
+        CrossTab crossTab = cube.crossTab(new int[]{0}, filters);
+
+        assertThat(crossTab.getMatchedCount()).isEqualTo(2);
+        assertThat(crossTab.getCells()).containsExactly(1, 1);
+    }
+
+    @Test
+    void testAppend() {
+        SurveyResponseCube cube = newCube();
+        AnsweredQuestionDto answer = AnsweredQuestionDto.builder()
+            .questionBankId(1L)
+            .questionType(QuestionType.SINGLE_CHOICE)
+            .isRequired(true)
+            .singleChoice(11L)
+            .build();
+
+        assertThat(cube.append(1, 103, List.of(answer))).isTrue();
+        // already read by the build
+        assertThat(cube.append(2, 100, List.of(answer))).isTrue();
+        // version 3 was missed
+        assertThat(cube.append(4, 104, List.of(answer))).isFalse();
+
+        assertThat(cube.getSize()).isEqualTo(4);
+        assertThat(cube.crossTab(new int[]{0}, new long[2][]).getCells()).containsExactly(2, 2);
+    }
+}
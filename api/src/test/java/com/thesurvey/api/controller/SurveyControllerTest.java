@@ -1,5 +1,6 @@
 package com.thesurvey.api.controller;
 
+import com.thesurvey.api.config.IdempotencyFilter;
 import com.thesurvey.api.domain.AnsweredQuestion;
 import com.thesurvey.api.domain.EnumTypeEntity.CertificationType;
 import com.thesurvey.api.domain.EnumTypeEntity.PointTransactionType;
@@ -49,6 +50,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
@@ -195,6 +197,23 @@ public class SurveyControllerTest extends BaseControllerTest {
         assertThat(content.get("rewardPoints")).isEqualTo(1);
     }
 
+    @Test
+    void testGetSpecificSurveyNotModified() throws Exception {
+        // given
+        Long surveyId = mockSurvey.getLong("surveyId");
+        String eTag = mockMvc.perform(get("/surveys/" + surveyId))
+                .andExpect(status().isOk()).andReturn().getResponse().getHeader("ETag");
+
+        // when
+        MvcResult result = mockMvc.perform(get("/surveys/" + surveyId).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified()).andReturn();
+
+        // then
+        assertThat(eTag).isNotNull();
+        assertThat(result.getResponse().getHeader("ETag")).isEqualTo(eTag);
+        assertThat(result.getResponse().getContentAsString()).isEmpty();
+    }
+
     @Test
     void testSubmitSurvey() throws Exception {
         // given
@@ -265,6 +284,68 @@ public class SurveyControllerTest extends BaseControllerTest {
         assertThat(resultAnsweredQuestion.get(0).getSingleChoice()).isEqualTo(questionOption.getLong("questionOptionId"));
     }
 
+    @Test
+    void testCreateSurveyReplayedWithIdempotencyKey() throws Exception {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        MvcResult firstResult = mockMvc.perform(post("/surveys")
+                        .with(authentication(authentication))
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(surveyRequestDto)))
+                .andReturn();
+        long surveyCount = surveyRepository.count();
+
+        // when
+        MvcResult retriedResult = mockMvc.perform(post("/surveys")
+                        .with(authentication(authentication))
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(surveyRequestDto)))
+                .andReturn();
+
+        // then
+        assertThat(retriedResult.getResponse().getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retriedResult.getResponse().getStatus()).isEqualTo(firstResult.getResponse().getStatus());
+        assertThat(retriedResult.getResponse().getContentAsString())
+                .isEqualTo(firstResult.getResponse().getContentAsString());
+        assertThat(surveyRepository.count()).isEqualTo(surveyCount);
+    }
+
+    @Test
+    void testCreateSurveyRefusedWithIdempotencyKeyOfDifferentRequest() throws Exception {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        mockMvc.perform(post("/surveys")
+                        .with(authentication(authentication))
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(surveyRequestDto)))
+                .andReturn();
+        long surveyCount = surveyRepository.count();
+        SurveyRequestDto differentSurveyRequestDto = SurveyRequestDto.builder()
+                .title("This is another test survey title")
+                .description(surveyRequestDto.getDescription())
+                .startedDate(surveyRequestDto.getStartedDate())
+                .endedDate(surveyRequestDto.getEndedDate())
+                .certificationTypes(surveyRequestDto.getCertificationTypes())
+                .questions(surveyRequestDto.getQuestions())
+                .build();
+
+        // when
+        MvcResult reusedResult = mockMvc.perform(post("/surveys")
+                        .with(authentication(authentication))
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(differentSurveyRequestDto)))
+                .andReturn();
+
+        // then
+        assertThat(reusedResult.getResponse().getStatus()).isEqualTo(422);
+        assertThat(reusedResult.getResponse().getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(surveyRepository.count()).isEqualTo(surveyCount);
+    }
+
     @Test
     void testUpdateSurvey() throws Exception {
         // given
@@ -349,6 +430,38 @@ public class SurveyControllerTest extends BaseControllerTest {
         assertThat(content.get("totalPages")).isEqualTo(2); // total elements / page size
     }
 
+    @Test
+    void testGetAllSurveyFilteredByRewardPoints() throws Exception {
+        // when
+        MvcResult matched = mockMvc.perform(get("/surveys")
+                        .param("maxRewardPoints", "1"))
+                .andExpect(status().isOk()).andReturn();
+        MvcResult unmatched = mockMvc.perform(get("/surveys")
+                        .param("minRewardPoints", "2"))
+                .andExpect(status().isOk()).andReturn();
+
+        // then
+        JSONObject matchedContent = new JSONObject(matched.getResponse().getContentAsString());
+        JSONObject unmatchedContent = new JSONObject(unmatched.getResponse().getContentAsString());
+        assertThat(matchedContent.get("totalSurveys")).isEqualTo(1); // mockSurvey rewards 1 point
+        assertThat(unmatchedContent.get("totalSurveys")).isEqualTo(0);
+    }
+
+    @Test
+    void testStreamActiveSurveys() throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(get("/surveys/stream"))
+                .andExpect(status().isOk()).andReturn();
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+
+        // then
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+        assertThat(lines.length).isEqualTo(1);
+        JSONObject content = new JSONObject(lines[0]);
+        assertThat(content.getLong("surveyId")).isEqualTo(mockSurvey.getLong("surveyId"));
+        assertThat(content.get("rewardPoints")).isEqualTo(1);
+    }
+
     @Test
     void testDeleteSurvey() throws Exception {
         // given
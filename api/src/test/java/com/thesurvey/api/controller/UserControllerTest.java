@@ -280,6 +280,7 @@ public class UserControllerTest extends BaseControllerTest {
         JSONObject questionAnswer = surveyResults.getJSONObject(0);
         assertThat(contents.get("surveyTitle")).isEqualTo(
             surveyRequestDto.getTitle());
+        assertThat(contents.get("respondentCount")).isEqualTo(1);
         assertThat(questionAnswer.get("questionTitle")).isEqualTo(
             questionRequestDto.getTitle());
 
@@ -289,6 +290,43 @@ public class UserControllerTest extends BaseControllerTest {
         assertThat(optionAnswer.get("totalResponseCount")).isEqualTo(1);
     }
 
+    @Test
+    void testGetTextAnswersOfChoiceQuestion() throws Exception {
+        // given
+        QuestionOptionRequestDto questionOptionRequestDto = QuestionOptionRequestDto.builder()
+            .option("This is test option")
+            .build();
+
+        QuestionRequestDto questionRequestDto = QuestionRequestDto.builder()
+            .title("This is test question title")
+            .description("This is test question description")
+            .questionNo(1)
+            .questionType(QuestionType.SINGLE_CHOICE)
+            .questionOptions(List.of(questionOptionRequestDto))
+            .isRequired(true)
+            .build();
+
+        SurveyRequestDto surveyRequestDto = SurveyRequestDto.builder()
+            .title("This is test survey title")
+            .description("This is test survey description")
+            .startedDate(LocalDateTime.now(ZoneId.of("Asia/Seoul")))
+            .endedDate(LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusDays(2))
+            .certificationTypes(List.of(CertificationType.GOOGLE))
+            .questions(List.of(questionRequestDto))
+            .build();
+
+        MvcResult createdSurvey = mockCreateSurvey(surveyRequestDto);
+        JSONObject createdSurveyContent = new JSONObject(
+            createdSurvey.getResponse().getContentAsString());
+        JSONObject questionBank = createdSurveyContent.getJSONArray("questions").getJSONObject(0);
+
+        // when, then
+        mockMvc.perform(get("/users/surveys/" + createdSurveyContent.get("surveyId")
+                    + "/questions/" + questionBank.get("questionBankId") + "/answers")
+                .with(authentication(authentication)))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetUserProfile() throws Exception {
         // given
@@ -4,6 +4,7 @@ import com.thesurvey.api.domain.EnumTypeEntity.CertificationType;
 import com.thesurvey.api.domain.EnumTypeEntity.QuestionType;
 import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionDto;
 import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionRequestDto;
+import com.thesurvey.api.dto.request.question.QuestionOptionRequestDto;
 import com.thesurvey.api.dto.request.question.QuestionRequestDto;
 import com.thesurvey.api.dto.request.survey.SurveyRequestDto;
 import com.thesurvey.api.dto.request.user.UserRegisterRequestDto;
@@ -232,4 +233,56 @@ public class AnsweredQuestionServiceTest {
             () -> answeredQuestionService.createAnswer(answeredQuestionRequestDto));
     }
 
+    @Test
+    void testValidateOptionOfAnotherQuestion() {
+        List<QuestionRequestDto> testQuestionList = new ArrayList<>();
+        for (int questionNo = 1; questionNo <= 2; questionNo++) {
+            testQuestionList.add(
+                QuestionRequestDto.builder()
+                    .title("This is test single choice question title " + questionNo)
+                    .description("This is test question description")
+                    .questionNo(questionNo)
+                    .questionType(QuestionType.SINGLE_CHOICE)
+                    .questionOptions(List.of(
+                        QuestionOptionRequestDto.builder()
+                            .option("test option title")
+                            .description("test option description")
+                            .build()
+                    ))
+                    .isRequired(false)
+                    .build()
+            );
+        }
+
+        SurveyRequestDto testSurveyRequestDto = SurveyRequestDto.builder()
+            .title("This is test survey title")
+            .description("This is test survey description")
+            .startedDate(LocalDateTime.parse(LocalDateTime.now(ZoneId.of("Asia/Seoul"))
+                .format(formatter)))
+            .endedDate(LocalDateTime.parse(LocalDateTime.now(ZoneId.of("Asia/Seoul"))
+                .plusDays(2).format(formatter)))
+            .certificationTypes(List.of(CertificationType.NONE))
+            .questions(testQuestionList)
+            .build();
+        SecurityContextHolder.getContext().setAuthentication(testAuthentication);
+        SurveyResponseDto testSurveyResponseDto = surveyService.createSurvey(testSurveyRequestDto);
+        List<QuestionBankResponseDto> testQuestionResponseList = testSurveyResponseDto.getQuestions();
+
+        AnsweredQuestionDto answeredQuestionDto = AnsweredQuestionDto.builder()
+            .questionBankId(testQuestionResponseList.get(0).getQuestionBankId())
+            .singleChoice(testQuestionResponseList.get(1).getQuestionOptions().get(0).getQuestionOptionId()) // to be validated
+            .isRequired(false)
+            .questionType(QuestionType.SINGLE_CHOICE)
+            .build();
+
+        AnsweredQuestionRequestDto answeredQuestionRequestDto = AnsweredQuestionRequestDto.builder()
+            .surveyId(testSurveyResponseDto.getSurveyId())
+            .answers(List.of(answeredQuestionDto))
+            .build();
+
+        SecurityContextHolder.getContext().setAuthentication(submitUserAuthentication);
+        assertThrows(BadRequestExceptionMapper.class,
+            () -> answeredQuestionService.createAnswer(answeredQuestionRequestDto));
+    }
+
 }
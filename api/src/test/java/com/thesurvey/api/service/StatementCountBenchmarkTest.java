@@ -0,0 +1,169 @@
+package com.thesurvey.api.service;
+
+import com.thesurvey.api.domain.EnumTypeEntity.CertificationType;
+import com.thesurvey.api.domain.EnumTypeEntity.QuestionType;
+import com.thesurvey.api.domain.User;
+import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionDto;
+import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionRequestDto;
+import com.thesurvey.api.dto.request.question.QuestionOptionRequestDto;
+import com.thesurvey.api.dto.request.question.QuestionRequestDto;
+import com.thesurvey.api.dto.request.survey.SurveyRequestDto;
+import com.thesurvey.api.dto.request.user.UserRegisterRequestDto;
+import com.thesurvey.api.dto.response.question.QuestionBankResponseDto;
+import com.thesurvey.api.dto.response.survey.SurveyResponseDto;
+import com.thesurvey.api.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the JDBC statements sent to create a 30-question survey and to submit answers to all of its
+ * questions. With identity ids, a sequence call per answer, merges of questions and participations and
+ * per-question reads for the response, these took over 250 and over 100 statements respectively.
+ */
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@TestInstance(value = Lifecycle.PER_CLASS)
+public class StatementCountBenchmarkTest {
+
+    static final int QUESTION_COUNT = 30;
+
+    static final int OPTION_COUNT = 4;
+
+    @Autowired
+    AuthenticationService authenticationService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    SurveyService surveyService;
+
+    @Autowired
+    AnsweredQuestionService answeredQuestionService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+
+    Authentication authorAuthentication;
+
+    Authentication respondentAuthentication;
+
+    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    @BeforeAll
+    void setupBeforeAll() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        authorAuthentication = registerAndAuthenticate("statementCountAuthor");
+        respondentAuthentication = registerAndAuthenticate("statementCountRespondent");
+
+        // a survey of this size costs more than the initial points
+        User author = userRepository.findByName("statementCountAuthor").get();
+        author.updatePoint(1000);
+        userRepository.save(author);
+    }
+
+    @Test
+    void testStatementsPerSurveyCreationAndSubmission() {
+        List<QuestionRequestDto> questions = new ArrayList<>();
+        for (int questionNo = 1; questionNo <= QUESTION_COUNT; questionNo++) {
+            List<QuestionOptionRequestDto> options = new ArrayList<>();
+            for (int optionNo = 1; optionNo <= OPTION_COUNT; optionNo++) {
+                options.add(QuestionOptionRequestDto.builder()
+                    .option("test option title " + optionNo)
+                    .description("test option description")
+                    .build());
+            }
+            questions.add(QuestionRequestDto.builder()
+                .title("This is test single choice question title " + questionNo)
+                .description("This is test question description")
+                .questionNo(questionNo)
+                .questionType(QuestionType.SINGLE_CHOICE)
+                .questionOptions(options)
+                .isRequired(true)
+                .build());
+        }
+        SurveyRequestDto surveyRequestDto = SurveyRequestDto.builder()
+            .title("This is test survey title")
+            .description("This is test survey description")
+            .startedDate(LocalDateTime.parse(LocalDateTime.now(ZoneId.of("Asia/Seoul"))
+                .format(formatter)))
+            .endedDate(LocalDateTime.parse(LocalDateTime.now(ZoneId.of("Asia/Seoul"))
+                .plusDays(2).format(formatter)))
+            .certificationTypes(List.of(CertificationType.NONE))
+            .questions(questions)
+            .build();
+
+        SecurityContextHolder.getContext().setAuthentication(authorAuthentication);
+        statistics.clear();
+        SurveyResponseDto survey = surveyService.createSurvey(surveyRequestDto);
+        long creationStatements = statistics.getPrepareStatementCount();
+        long creationInserts = statistics.getEntityInsertCount();
+        log.info("Survey creation: {} rows inserted with {} statements", creationInserts, creationStatements);
+
+        List<AnsweredQuestionDto> answers = survey.getQuestions().stream()
+            .map(question -> AnsweredQuestionDto.builder()
+                .questionBankId(question.getQuestionBankId())
+                .singleChoice(firstOptionId(question))
+                .isRequired(true)
+                .questionType(QuestionType.SINGLE_CHOICE)
+                .build())
+            .collect(Collectors.toList());
+        AnsweredQuestionRequestDto answeredQuestionRequestDto = AnsweredQuestionRequestDto.builder()
+            .surveyId(survey.getSurveyId())
+            .answers(answers)
+            .build();
+
+        SecurityContextHolder.getContext().setAuthentication(respondentAuthentication);
+        statistics.clear();
+        answeredQuestionService.createAnswer(answeredQuestionRequestDto);
+        long submissionStatements = statistics.getPrepareStatementCount();
+        long submissionInserts = statistics.getEntityInsertCount();
+        log.info("Submission: {} rows inserted with {} statements", submissionInserts, submissionStatements);
+
+        assertThat(creationInserts).isGreaterThanOrEqualTo(QUESTION_COUNT * (2 + OPTION_COUNT));
+        assertThat(creationStatements).isLessThan(50);
+        assertThat(submissionInserts).isGreaterThanOrEqualTo(QUESTION_COUNT);
+        assertThat(submissionStatements).isLessThan(25);
+    }
+
+    private Long firstOptionId(QuestionBankResponseDto question) {
+        return question.getQuestionOptions().get(0).getQuestionOptionId();
+    }
+
+    private Authentication registerAndAuthenticate(String name) {
+        UserRegisterRequestDto userRegisterRequestDto = UserRegisterRequestDto.builder()
+            .name(name)
+            .email(name + "@gmail.com")
+            .password("Password40@")
+            .phoneNumber("01012345678")
+            .build();
+        authenticationService.register(userRegisterRequestDto);
+        return authenticationService.authenticate(
+            new UsernamePasswordAuthenticationToken(userRegisterRequestDto.getEmail(),
+                userRegisterRequestDto.getPassword()));
+    }
+}
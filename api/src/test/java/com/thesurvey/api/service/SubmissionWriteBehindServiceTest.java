@@ -0,0 +1,114 @@
+package com.thesurvey.api.service;
+
+import com.thesurvey.api.domain.EnumTypeEntity.CertificationType;
+import com.thesurvey.api.domain.EnumTypeEntity.QuestionType;
+import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionDto;
+import com.thesurvey.api.dto.request.answeredQuestion.AnsweredQuestionRequestDto;
+import com.thesurvey.api.dto.request.question.QuestionOptionRequestDto;
+import com.thesurvey.api.dto.request.question.QuestionRequestDto;
+import com.thesurvey.api.dto.request.survey.SurveyRequestDto;
+import com.thesurvey.api.dto.request.user.UserRegisterRequestDto;
+import com.thesurvey.api.dto.response.answeredQuestion.AnsweredQuestionRewardPointDto;
+import com.thesurvey.api.dto.response.survey.SurveyResponseDto;
+import com.thesurvey.api.exception.mapper.ForbiddenRequestExceptionMapper;
+import com.thesurvey.api.repository.AnsweredQuestionRepository;
+import com.thesurvey.api.util.UserUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "survey.submission.async.enabled=true")
+@ActiveProfiles("test")
+@TestInstance(value = Lifecycle.PER_CLASS)
+public class SubmissionWriteBehindServiceTest {
+
+    @Autowired
+    AuthenticationService authenticationService;
+
+    @Autowired
+    SurveyService surveyService;
+
+    @Autowired
+    SubmissionWriteBehindService submissionWriteBehindService;
+
+    @Autowired
+    AnsweredQuestionRepository answeredQuestionRepository;
+
+    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    @Test
+    void testSubmitIsWrittenBehindAndOnlyOnce() throws InterruptedException {
+        SecurityContextHolder.getContext().setAuthentication(registerAndAuthenticate("writeBehindAuthor"));
+        SurveyResponseDto survey = surveyService.createSurvey(SurveyRequestDto.builder()
+            .title("This is test survey title")
+            .description("This is test survey description")
+            .startedDate(LocalDateTime.parse(LocalDateTime.now(ZoneId.of("Asia/Seoul")).format(formatter)))
+            .endedDate(LocalDateTime.parse(LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusDays(2).format(formatter)))
+            .certificationTypes(List.of(CertificationType.NONE))
+            .questions(List.of(QuestionRequestDto.builder()
+                .title("This is test single choice question title")
+                .description("This is test question description")
+                .questionNo(1)
+                .questionType(QuestionType.SINGLE_CHOICE)
+                .questionOptions(List.of(QuestionOptionRequestDto.builder()
+                    .option("test option title")
+                    .description("test option description")
+                    .build()))
+                .isRequired(true)
+                .build()))
+            .build());
+        AnsweredQuestionRequestDto answeredQuestionRequestDto = AnsweredQuestionRequestDto.builder()
+            .surveyId(survey.getSurveyId())
+            .answers(List.of(AnsweredQuestionDto.builder()
+                .questionBankId(survey.getQuestions().get(0).getQuestionBankId())
+                .singleChoice(survey.getQuestions().get(0).getQuestionOptions().get(0).getQuestionOptionId())
+                .isRequired(true)
+                .questionType(QuestionType.SINGLE_CHOICE)
+                .build()))
+            .build();
+
+        Authentication respondent = registerAndAuthenticate("writeBehindRespondent");
+        SecurityContextHolder.getContext().setAuthentication(respondent);
+        AnsweredQuestionRewardPointDto rewardPointDto = submissionWriteBehindService.submit(answeredQuestionRequestDto);
+
+        // a second submission is refused while the first is queued as well as after it is written
+        assertThat(rewardPointDto.getRewardPoints()).isPositive();
+        assertThrows(ForbiddenRequestExceptionMapper.class,
+            () -> submissionWriteBehindService.submit(answeredQuestionRequestDto));
+
+        Long respondentId = UserUtil.getUserIdFromAuthentication(respondent);
+        for (int i = 0; i < 50 && !answeredQuestionRepository.existsByUserIdAndSurveyId(respondentId, survey.getSurveyId()); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(answeredQuestionRepository.existsByUserIdAndSurveyId(respondentId, survey.getSurveyId())).isTrue();
+        assertThrows(ForbiddenRequestExceptionMapper.class,
+            () -> submissionWriteBehindService.submit(answeredQuestionRequestDto));
+    }
+
+    private Authentication registerAndAuthenticate(String name) {
+        UserRegisterRequestDto userRegisterRequestDto = UserRegisterRequestDto.builder()
+            .name(name)
+            .email(name + "@gmail.com")
+            .password("Password40@")
+            .phoneNumber("01012345678")
+            .build();
+        authenticationService.register(userRegisterRequestDto);
+        return authenticationService.authenticate(
+            new UsernamePasswordAuthenticationToken(userRegisterRequestDto.getEmail(),
+                userRegisterRequestDto.getPassword()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.thesurvey.api.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SurveyExportServiceTest {
+
+    @Test
+    void testEscape() {
+        assertThat(SurveyExportService.escape("편리합니다")).isEqualTo("편리합니다");
+        assertThat(SurveyExportService.escape(null)).isEqualTo("");
+        assertThat(SurveyExportService.escape("a, b")).isEqualTo("\"a, b\"");
+        assertThat(SurveyExportService.escape("say \"hi\"\nbye")).isEqualTo("\"say \"\"hi\"\"\nbye\"");
+
+        // cells a spreadsheet would run as formulas
+        assertThat(SurveyExportService.escape("=HYPERLINK(\"http://x\")")).isEqualTo("\"'=HYPERLINK(\"\"http://x\"\")\"");
+        assertThat(SurveyExportService.escape("+1")).isEqualTo("\"'+1\"");
+        assertThat(SurveyExportService.escape("-1")).isEqualTo("\"'-1\"");
+        assertThat(SurveyExportService.escape("@SUM(A1)")).isEqualTo("\"'@SUM(A1)\"");
+        assertThat(SurveyExportService.escape("\t=1")).isEqualTo("\"'\t=1\"");
+        assertThat(SurveyExportService.escape("\r=1")).isEqualTo("\"'\r=1\"");
+        assertThat(SurveyExportService.escape("1+1=2")).isEqualTo("1+1=2");
+    }
+}
@@ -0,0 +1,130 @@
+package com.thesurvey.api.service;
+
+import com.thesurvey.api.domain.EnumTypeEntity.CertificationType;
+import com.thesurvey.api.domain.EnumTypeEntity.QuestionType;
+import com.thesurvey.api.dto.request.question.QuestionOptionRequestDto;
+import com.thesurvey.api.dto.request.question.QuestionRequestDto;
+import com.thesurvey.api.dto.request.survey.SurveyRequestDto;
+import com.thesurvey.api.dto.request.user.UserRegisterRequestDto;
+import com.thesurvey.api.dto.response.survey.SurveyCursorPageDto;
+import com.thesurvey.api.dto.response.survey.SurveyPageDto;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the {@code ts_rank_cd} search queries against PostgreSQL, since H2 has no full-text search.
+ */
+@SpringBootTest
+@ActiveProfiles("revision")
+@TestInstance(value = Lifecycle.PER_CLASS)
+public class SurveySearchPaginationTest {
+
+    static final int MATCHING_SURVEY_COUNT = SurveyService.SURVEY_PAGE_SIZE + 2;
+
+    @Autowired
+    AuthenticationService authenticationService;
+
+    @Autowired
+    SurveyService surveyService;
+
+    @Autowired
+    SurveySearchService surveySearchService;
+
+    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    // unique to the run, so surveys left over from earlier runs do not match
+    String term = "searchterm" + System.currentTimeMillis();
+
+    Long bestMatchId;
+
+    List<Long> matchingIds = new ArrayList<>();
+
+    @BeforeAll
+    void setUpBeforeAll() {
+        UserRegisterRequestDto userRegisterRequestDto = UserRegisterRequestDto.builder()
+            .name("surveySearchPagination")
+            .email(term + "@gmail.com")
+            .password("Password40@")
+            .phoneNumber("01012345678")
+            .build();
+        authenticationService.register(userRegisterRequestDto);
+        SecurityContextHolder.getContext().setAuthentication(authenticationService.authenticate(
+            new UsernamePasswordAuthenticationToken(userRegisterRequestDto.getEmail(),
+                userRegisterRequestDto.getPassword())));
+
+        // the term in the title, description and question of the first survey ranks it above the rest
+        bestMatchId = createSurvey(term + " " + term, term, term);
+        matchingIds.add(bestMatchId);
+        for (int i = 1; i < MATCHING_SURVEY_COUNT; i++) {
+            matchingIds.add(createSurvey("title " + term, "description", "question"));
+        }
+        createSurvey("not matching title", "description", "question");
+    }
+
+    @Test
+    void testSearchRanksAndContinuesAfterCursor() {
+        // when
+        SurveyCursorPageDto firstPage = surveySearchService.searchSurveys(term, null);
+        SurveyCursorPageDto secondPage = surveySearchService.searchSurveys(term, firstPage.getNextCursor());
+
+        // then
+        List<Long> firstIds = toSurveyIds(firstPage);
+        List<Long> secondIds = toSurveyIds(secondPage);
+        assertThat(firstIds).hasSize(SurveyService.SURVEY_PAGE_SIZE);
+        assertThat(firstIds.get(0)).isEqualTo(bestMatchId);
+        assertThat(firstPage.getNextCursor()).isNotNull();
+
+        // the other surveys rank equally, so they are ordered by survey ID
+        assertThat(firstIds.subList(1, firstIds.size())).isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(secondIds).isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(firstIds.get(firstIds.size() - 1)).isGreaterThan(secondIds.get(0));
+
+        assertThat(secondIds).hasSize(MATCHING_SURVEY_COUNT - SurveyService.SURVEY_PAGE_SIZE);
+        assertThat(secondPage.getNextCursor()).isNull();
+        List<Long> allIds = new ArrayList<>(firstIds);
+        allIds.addAll(secondIds);
+        assertThat(allIds).containsExactlyInAnyOrderElementsOf(matchingIds);
+    }
+
+    private Long createSurvey(String title, String description, String questionTitle) {
+        return surveyService.createSurvey(SurveyRequestDto.builder()
+            .title(title)
+            .description(description)
+            .startedDate(LocalDateTime.parse(LocalDateTime.now(ZoneId.of("Asia/Seoul")).format(formatter)))
+            .endedDate(LocalDateTime.parse(LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusDays(2).format(formatter)))
+            .certificationTypes(List.of(CertificationType.NONE))
+            .questions(List.of(QuestionRequestDto.builder()
+                .title(questionTitle)
+                .description("This is test question description")
+                .questionNo(1)
+                .questionType(QuestionType.SINGLE_CHOICE)
+                .questionOptions(List.of(QuestionOptionRequestDto.builder()
+                    .option("test option title")
+                    .description("test option description")
+                    .build()))
+                .isRequired(true)
+                .build()))
+            .build()).getSurveyId();
+    }
+
+    private List<Long> toSurveyIds(SurveyCursorPageDto page) {
+        return page.getSurveys().stream().map(SurveyPageDto::getSurveyId).collect(Collectors.toList());
+    }
+}
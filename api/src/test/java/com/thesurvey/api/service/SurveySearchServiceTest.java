@@ -0,0 +1,22 @@
+package com.thesurvey.api.service;
+
+import com.thesurvey.api.exception.mapper.BadRequestExceptionMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SurveySearchServiceTest {
+
+    @Test
+    void testToTsQuery() {
+        assertThat(SurveySearchService.toTsQuery("카카오 만족도")).isEqualTo("카카오:* & 만족도:*");
+        assertThat(SurveySearchService.toTsQuery("  Kakao & (app) | !x:* ")).isEqualTo("kakao:* & app:* & x:*");
+    }
+
+    @Test
+    void testToTsQueryWithoutTerms() {
+        assertThrows(BadRequestExceptionMapper.class, () -> SurveySearchService.toTsQuery(" &|! "));
+        assertThrows(BadRequestExceptionMapper.class, () -> SurveySearchService.toTsQuery(null));
+    }
+}
@@ -0,0 +1,52 @@
+package com.thesurvey.api.util;
+
+import com.thesurvey.api.exception.mapper.BadRequestExceptionMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CursorUtilTest {
+
+    @Test
+    void testEncodeAndDecode() {
+        // given
+        LocalDateTime createdDate = LocalDateTime.of(2023, 4, 22, 10, 30, 15, 123000000);
+
+        // when
+        CursorUtil.Cursor cursor = CursorUtil.decode(CursorUtil.encode(createdDate, 42L));
+
+        // then
+        assertThat(cursor.getCreatedDate()).isEqualTo(createdDate);
+        assertThat(cursor.getSurveyId()).isEqualTo(42L);
+    }
+
+    @Test
+    void testDecodeInvalidCursor() {
+        assertThrows(BadRequestExceptionMapper.class, () -> CursorUtil.decode("not-a-cursor"));
+        assertThrows(BadRequestExceptionMapper.class, () -> CursorUtil.decode("!!"));
+    }
+
+    @Test
+    void testEncodeAndDecodeRank() {
+        // given
+        float rank = 0.123456789f;
+
+        // when
+        CursorUtil.RankCursor cursor = CursorUtil.decodeRank(CursorUtil.encodeRank(rank, 42L));
+
+        // then
+        assertThat(cursor.getRank()).isEqualTo(rank);
+        assertThat(cursor.getSurveyId()).isEqualTo(42L);
+    }
+
+    @Test
+    void testDecodeInvalidRankCursor() {
+        assertThrows(BadRequestExceptionMapper.class, () -> CursorUtil.decodeRank("!!"));
+        // a created date cursor is not a rank cursor
+        assertThrows(BadRequestExceptionMapper.class,
+            () -> CursorUtil.decodeRank(CursorUtil.encode(LocalDateTime.of(2023, 4, 22, 10, 30), 42L)));
+    }
+}
@@ -0,0 +1,28 @@
+package com.thesurvey.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HistogramUtilTest {
+
+    @Test
+    void testLinearBuckets() {
+        assertThat(HistogramUtil.bucketIndex(0)).isEqualTo(0);
+        assertThat(HistogramUtil.bucketIndex(15)).isEqualTo(15);
+        assertThat(HistogramUtil.bucketLowerBound(15)).isEqualTo(15);
+        assertThat(HistogramUtil.bucketUpperBound(15)).isEqualTo(15);
+    }
+
+    @Test
+    void testLogLinearBucketsContainTheirValues() {
+        for (long value = 0; value < 1_000_000; value += 7) {
+            int index = HistogramUtil.bucketIndex(value);
+            assertThat(HistogramUtil.bucketLowerBound(index)).isLessThanOrEqualTo(value);
+            assertThat(HistogramUtil.bucketUpperBound(index)).isGreaterThanOrEqualTo(value);
+        }
+        assertThat(HistogramUtil.bucketIndex(16)).isEqualTo(16);
+        assertThat(HistogramUtil.bucketUpperBound(16)).isEqualTo(17);
+        assertThat(HistogramUtil.bucketLowerBound(HistogramUtil.bucketIndex(1000))).isEqualTo(960);
+    }
+}
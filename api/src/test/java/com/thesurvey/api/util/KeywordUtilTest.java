@@ -0,0 +1,30 @@
+package com.thesurvey.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KeywordUtilTest {
+
+    @Test
+    void testExtractKeywords() {
+        assertThat(KeywordUtil.extractKeywords("배송이 빨라요. 배송이 빨라요! a UI"))
+            .containsExactly("배송이", "배송이 빨라요", "빨라요", "빨라요 배송이", "빨라요 ui", "ui");
+        assertThat(KeywordUtil.extractKeywords(null)).isEmpty();
+        assertThat(KeywordUtil.extractKeywords("  ... ")).isEmpty();
+    }
+
+    @Test
+    void testSketchOffsetsStayInTheirRows() {
+        int depth = 4;
+        int width = 1024;
+        for (String keyword : KeywordUtil.extractKeywords("the quick brown fox jumps over the lazy dog 다람쥐 헌 쳇바퀴")) {
+            int[] offsets = KeywordUtil.sketchOffsets(keyword, depth, width);
+            assertThat(offsets).hasSize(depth);
+            for (int row = 0; row < depth; row++) {
+                assertThat(offsets[row]).isBetween(row * width, (row + 1) * width - 1);
+            }
+            assertThat(KeywordUtil.sketchOffsets(keyword, depth, width)).isEqualTo(offsets);
+        }
+    }
+}